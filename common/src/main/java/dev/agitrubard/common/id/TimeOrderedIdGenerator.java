@@ -0,0 +1,42 @@
+package dev.agitrubard.common.id;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator of time-ordered {@code long} IDs and version 7 {@link UUID}s, taken from one sequence of
+ * {@code millis << 12 | counter} ticks so every ID is greater than all IDs taken before it.
+ *
+ * <p>{@code long} IDs count from 2024-01-01, so they stay below 2^53, readable by JavaScript clients, until 2093. IDs
+ * are guessable and must not be used as secrets.</p>
+ */
+public class TimeOrderedIdGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final long UUID_VERSION = 0x7000L;
+    private static final long UUID_VARIANT = 0x8000_0000_0000_0000L;
+
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public long nextId() {
+        return this.nextTick() - (EPOCH_MILLIS << COUNTER_BITS);
+    }
+
+    public UUID nextUuid() {
+        long tick = this.nextTick();
+        long mostSignificantBits = ((tick >>> COUNTER_BITS) << 16) | UUID_VERSION | (tick & COUNTER_MASK);
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | UUID_VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTick() {
+        return lastTick.updateAndGet(tick -> Math.max(tick + 1, System.currentTimeMillis() << COUNTER_BITS));
+    }
+
+}
@@ -0,0 +1,19 @@
+package dev.agitrubard.common.id;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Provides the application's single {@link TimeOrderedIdGenerator}.
+ */
+@AutoConfiguration
+public class TimeOrderedIdGeneratorAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    TimeOrderedIdGenerator timeOrderedIdGenerator() {
+        return new TimeOrderedIdGenerator();
+    }
+
+}
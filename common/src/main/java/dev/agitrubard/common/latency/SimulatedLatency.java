@@ -0,0 +1,35 @@
+package dev.agitrubard.common.latency;
+
+import java.time.Duration;
+
+/**
+ * Blocks the calling thread for a fixed time to simulate the round trip to a downstream provider in load tests.
+ */
+public class SimulatedLatency {
+
+    private final Duration latency;
+
+    public SimulatedLatency(Duration latency) {
+
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Simulated latency must not be negative");
+        }
+
+        this.latency = latency;
+    }
+
+    public void await() {
+
+        if (latency.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the downstream provider", exception);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package dev.agitrubard.common.latency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Provides the {@link SimulatedLatency} of {@code downstream.simulated-latency}, zero by default.
+ */
+@AutoConfiguration
+public class SimulatedLatencyAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    SimulatedLatency simulatedLatency(@Value("${downstream.simulated-latency:0ms}") Duration latency) {
+        return new SimulatedLatency(latency);
+    }
+
+}
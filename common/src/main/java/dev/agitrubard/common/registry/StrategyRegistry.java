@@ -0,0 +1,72 @@
+package dev.agitrubard.common.registry;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Strategies of type {@code S} by the enum constant {@code K} they handle, registered in an {@link EnumMap} once.
+ *
+ * @param <K> enum whose constants select a strategy
+ * @param <S> strategy type
+ */
+public final class StrategyRegistry<K extends Enum<K>, S> {
+
+    private final Class<K> keyType;
+    private final Map<K, S> strategies;
+
+    private StrategyRegistry(Class<K> keyType, Map<K, S> strategies) {
+        this.keyType = keyType;
+        this.strategies = strategies;
+    }
+
+    /**
+     * Registers every strategy by the constant that {@code keyExtractor} returns for it.
+     *
+     * @throws IllegalStateException if a constant has more than one strategy or none
+     */
+    public static <K extends Enum<K>, S> StrategyRegistry<K, S> of(Class<K> keyType,
+                                                                 Collection<? extends S> strategies,
+                                                                 Function<? super S, K> keyExtractor) {
+
+        Map<K, S> strategiesByKey = new EnumMap<>(keyType);
+        for (S strategy : strategies) {
+            K key = keyExtractor.apply(strategy);
+            if (key == null) {
+                throw new IllegalStateException("No " + keyType.getSimpleName() + " for strategy " + strategy);
+            }
+
+            S duplicate = strategiesByKey.putIfAbsent(key, strategy);
+            if (duplicate != null) {
+                throw new IllegalStateException(
+                        "More than one strategy for " + keyType.getSimpleName() + "." + key
+                                + ": " + duplicate.getClass().getName() + " and " + strategy.getClass().getName()
+                );
+            }
+        }
+
+        for (K key : keyType.getEnumConstants()) {
+            if (!strategiesByKey.containsKey(key)) {
+                throw new IllegalStateException("No strategy for " + keyType.getSimpleName() + "." + key);
+            }
+        }
+
+        return new StrategyRegistry<>(keyType, strategiesByKey);
+    }
+
+    /**
+     * Returns the strategy of the constant, never {@code null}.
+     *
+     * @throws IllegalArgumentException if the constant is {@code null}
+     */
+    public S get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException(keyType.getSimpleName() + " is required");
+        }
+
+        return strategies.get(key);
+    }
+
+}
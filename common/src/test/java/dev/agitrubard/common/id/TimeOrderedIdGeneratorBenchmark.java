@@ -0,0 +1,84 @@
+package dev.agitrubard.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares minting one ID: {@code UUID.randomUUID()} as user IDs were created before, a single shared
+ * {@link AtomicLong} as event IDs were, and the {@link TimeOrderedIdGenerator} as {@code long} and as UUID.
+ *
+ * <p>{@link #main(String[])} runs every benchmark with 1, 4, 16 and 64 threads, to show how each one holds up
+ * when many requests create IDs at once:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.common.id.TimeOrderedIdGeneratorBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeOrderedIdGeneratorBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    private AtomicLong sequence;
+    private TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sequence = new AtomicLong();
+        timeOrderedIdGenerator = new TimeOrderedIdGenerator();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public long atomicLongSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    @Benchmark
+    public long timeOrderedId() {
+        return timeOrderedIdGenerator.nextId();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return timeOrderedIdGenerator.nextUuid();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threadCount : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(TimeOrderedIdGeneratorBenchmark.class.getSimpleName())
+                    .threads(threadCount)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+
+}
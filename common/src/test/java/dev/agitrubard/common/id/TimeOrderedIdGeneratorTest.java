@@ -0,0 +1,82 @@
+package dev.agitrubard.common.id;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void givenConcurrentThreads_whenIdsAreGenerated_thenIdsAreUniqueIncreasingAndBelowTwoToThe53() throws Exception {
+
+        // Given
+        TimeOrderedIdGenerator timeOrderedIdGenerator = new TimeOrderedIdGenerator();
+
+        // Then
+        List<long[]> idsPerThread = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            List<Callable<long[]>> generators = new ArrayList<>();
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                generators.add(() -> {
+                    long[] ids = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = timeOrderedIdGenerator.nextId();
+                    }
+                    return ids;
+                });
+            }
+
+            for (Future<long[]> ids : executorService.invokeAll(generators)) {
+                idsPerThread.add(ids.get());
+            }
+        }
+
+        // Verify
+        Set<Long> uniqueIds = new HashSet<>();
+        for (long[] ids : idsPerThread) {
+            for (int i = 0; i < ids.length; i++) {
+                Assertions.assertTrue(ids[i] > 0 && ids[i] < 1L << 53);
+                Assertions.assertTrue(i == 0 || ids[i] > ids[i - 1]);
+                uniqueIds.add(ids[i]);
+            }
+        }
+        Assertions.assertEquals(THREAD_COUNT * IDS_PER_THREAD, uniqueIds.size());
+    }
+
+    @Test
+    void givenOneThread_whenUuidsAreGenerated_thenTheyAreVersion7AndSorted() {
+
+        // Given
+        TimeOrderedIdGenerator timeOrderedIdGenerator = new TimeOrderedIdGenerator();
+        long before = System.currentTimeMillis();
+
+        // Then
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(timeOrderedIdGenerator.nextUuid());
+        }
+
+        // Verify
+        Assertions.assertEquals(7, uuids.getFirst().version());
+        Assertions.assertEquals(2, uuids.getFirst().variant());
+        Assertions.assertTrue((uuids.getFirst().getMostSignificantBits() >>> 16) >= before);
+        for (int i = 1; i < uuids.size(); i++) {
+            Assertions.assertTrue(Long.compareUnsigned(
+                    uuids.get(i - 1).getMostSignificantBits(), uuids.get(i).getMostSignificantBits()
+            ) < 0);
+        }
+    }
+
+}
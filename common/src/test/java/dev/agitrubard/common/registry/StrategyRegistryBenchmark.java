@@ -0,0 +1,105 @@
+package dev.agitrubard.common.registry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving a strategy by streaming over the list of strategies, as the strategy module's controller did
+ * before, against the {@link StrategyRegistry}, with {@code strategyCount} strategies. Every call asks for the next
+ * key in turn, so the stream scans half of the list on average.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate per operation:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.common.registry.StrategyRegistryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyRegistryBenchmark {
+
+    public enum Channel {
+        C00, C01, C02, C03, C04, C05, C06, C07, C08, C09, C10, C11, C12, C13, C14, C15,
+        C16, C17, C18, C19, C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31,
+        C32, C33, C34, C35, C36, C37, C38, C39, C40, C41, C42, C43, C44, C45, C46, C47,
+        C48, C49, C50, C51, C52, C53, C54, C55, C56, C57, C58, C59, C60, C61, C62, C63
+    }
+
+    public record Strategy(Channel channel) {
+    }
+
+    @Param({"3", "8", "16", "64"})
+    private int strategyCount;
+
+    private Channel[] channels;
+    private List<Strategy> strategies;
+    private StrategyRegistry<Channel, Strategy> strategyRegistry;
+    private int next;
+
+    /**
+     * Registers a strategy for every channel, because the registry requires one, but only asks for the first
+     * {@code strategyCount}, and only streams over as many.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        channels = Arrays.copyOf(Channel.values(), strategyCount);
+        strategies = Arrays.stream(channels).map(Strategy::new).toList();
+        strategyRegistry = StrategyRegistry.of(
+                Channel.class,
+                EnumSet.allOf(Channel.class).stream().map(Strategy::new).toList(),
+                Strategy::channel
+        );
+    }
+
+    @Benchmark
+    public Strategy streamLookup() {
+        Channel channel = this.nextChannel();
+        return strategies.stream()
+                .filter(strategy -> strategy.channel().equals(channel))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Channel not implemented"));
+    }
+
+    @Benchmark
+    public Strategy strategyRegistry() {
+        return strategyRegistry.get(this.nextChannel());
+    }
+
+    private Channel nextChannel() {
+        Channel channel = channels[next];
+        next = next + 1 == channels.length ? 0 : next + 1;
+        return channel;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StrategyRegistryBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
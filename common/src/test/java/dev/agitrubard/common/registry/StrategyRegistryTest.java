@@ -0,0 +1,69 @@
+package dev.agitrubard.common.registry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class StrategyRegistryTest {
+
+    private enum NotificationType {
+        EMAIL,
+        SMS,
+        PUSH
+    }
+
+    private record Strategy(NotificationType type) {
+    }
+
+    @Test
+    void givenOneStrategyPerType_whenRegistryBuilt_thenEveryTypeResolvesToItsStrategy() {
+        // Given
+        List<Strategy> strategies = List.of(
+                new Strategy(NotificationType.SMS),
+                new Strategy(NotificationType.EMAIL),
+                new Strategy(NotificationType.PUSH)
+        );
+
+        // Then
+        StrategyRegistry<NotificationType, Strategy> strategyRegistry = StrategyRegistry
+                .of(NotificationType.class, strategies, Strategy::type);
+
+        // Verify
+        for (NotificationType type : NotificationType.values()) {
+            Assertions.assertEquals(type, strategyRegistry.get(type).type());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strategyRegistry.get(null));
+    }
+
+    @Test
+    void givenDuplicateOrMissingStrategy_whenRegistryBuilt_thenFailFast() {
+        // Given
+        List<Strategy> duplicateStrategies = List.of(
+                new Strategy(NotificationType.SMS),
+                new Strategy(NotificationType.EMAIL),
+                new Strategy(NotificationType.PUSH),
+                new Strategy(NotificationType.EMAIL)
+        );
+        List<Strategy> missingStrategies = List.of(
+                new Strategy(NotificationType.SMS),
+                new Strategy(NotificationType.EMAIL)
+        );
+
+        // Then
+        IllegalStateException duplicateException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> StrategyRegistry.of(NotificationType.class, duplicateStrategies, Strategy::type)
+        );
+        IllegalStateException missingException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> StrategyRegistry.of(NotificationType.class, missingStrategies, Strategy::type)
+        );
+
+        // Verify
+        Assertions.assertTrue(duplicateException.getMessage()
+                .startsWith("More than one strategy for NotificationType.EMAIL"));
+        Assertions.assertEquals("No strategy for NotificationType.PUSH", missingException.getMessage());
+    }
+
+}
@@ -1,42 +1,231 @@
 package dev.agitrubard.datetime.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import dev.agitrubard.datetime.model.enums.EventBulkFormat;
 import dev.agitrubard.datetime.model.request.EventCreateRequest;
+import dev.agitrubard.datetime.model.response.EventBulkCreateResponse;
+import dev.agitrubard.datetime.model.response.EventChangeResponse;
+import dev.agitrubard.datetime.model.response.EventPageResponse;
 import dev.agitrubard.datetime.model.response.EventResponse;
+import dev.agitrubard.datetime.model.response.EventVersionResponse;
+import dev.agitrubard.datetime.service.EventChangeFeed;
 import dev.agitrubard.datetime.service.EventService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @RestController
 class EventController {
 
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
+    private static final int CHANGE_BATCH_SIZE = 256;
+
     private final EventService eventService;
+    private final EventChangeFeed eventChangeFeed;
+    private final ObjectMapper objectMapper;
+    private final Duration changeHeartbeatInterval;
+    private final Duration changeStreamTimeout;
+
+    public EventController(EventService eventService,
+                           EventChangeFeed eventChangeFeed,
+                           ObjectMapper objectMapper,
+                           @Value("${event.changes.heartbeat-interval:15s}") Duration changeHeartbeatInterval,
+                           @Value("${event.changes.timeout:30m}") Duration changeStreamTimeout) {
 
-    public EventController(EventService eventService) {
         this.eventService = eventService;
+        this.eventChangeFeed = eventChangeFeed;
+        this.objectMapper = objectMapper;
+        this.changeHeartbeatInterval = changeHeartbeatInterval;
+        this.changeStreamTimeout = changeStreamTimeout;
     }
 
+    /**
+     * Answers {@code 304 Not Modified} without loading any event when the client is up to date.
+     */
     @GetMapping("/events")
-    ResponseEntity<List<EventResponse>> findAll() {
+    ResponseEntity<List<EventResponse>> findAll(WebRequest webRequest) {
+
+        EventVersionResponse eventVersionResponse = eventService.findVersion();
+        if (isNotModified(webRequest, eventVersionResponse)) {
+            return null;
+        }
+
         List<EventResponse> eventResponse = eventService.findAll();
         return ResponseEntity.ok(eventResponse);
     }
 
+    @GetMapping("/events/page")
+    ResponseEntity<EventPageResponse> findAll(@RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+
+        EventPageResponse eventPageResponse = eventService.findAll(cursor, size);
+        return ResponseEntity.ok(eventPageResponse);
+    }
+
+    /**
+     * Streams every event as newline-delimited JSON, writing each event to the response as soon as it is read.
+     */
+    @GetMapping(value = "/events/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAll() {
+
+        StreamingResponseBody streamingResponseBody = outputStream -> {
+            try (Stream<EventResponse> eventResponses = eventService.streamAll();
+                 SequenceWriter sequenceWriter = objectMapper.writerFor(EventResponse.class)
+                         .withRootValueSeparator("\n")
+                         .writeValues(outputStream)) {
+
+                int writtenCount = 0;
+                Iterator<EventResponse> iterator = eventResponses.iterator();
+                while (iterator.hasNext()) {
+                    sequenceWriter.write(iterator.next());
+                    if (++writtenCount % STREAM_FLUSH_INTERVAL == 0) {
+                        sequenceWriter.flush();
+                    }
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamingResponseBody);
+    }
+
+    /**
+     * A reconnecting client resumes after the last change it received through {@code Last-Event-ID} or {@code after};
+     * without either, only new changes are sent. A {@code reset} event means changes were missed.
+     */
+    @GetMapping(value = "/events/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamChanges(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(required = false) Long after) {
+
+        long afterSequence = Optional.ofNullable(lastEventId)
+                .or(() -> Optional.ofNullable(after))
+                .orElseGet(eventChangeFeed::lastSequence);
+
+        SseEmitter sseEmitter = new SseEmitter(changeStreamTimeout.toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        sseEmitter.onCompletion(() -> open.set(false));
+        sseEmitter.onTimeout(() -> open.set(false));
+        sseEmitter.onError(exception -> open.set(false));
+
+        Thread.ofVirtual()
+                .name("event-changes-subscriber")
+                .start(() -> this.sendChanges(sseEmitter, afterSequence, open));
+
+        return sseEmitter;
+    }
+
+    private void sendChanges(SseEmitter sseEmitter, long afterSequence, AtomicBoolean open) {
+        long lastSentSequence = afterSequence;
+        try {
+            while (open.get()) {
+                List<EventChangeResponse> eventChangeResponses = eventChangeFeed
+                        .findAllAfter(lastSentSequence, CHANGE_BATCH_SIZE, changeHeartbeatInterval);
+
+                if (eventChangeResponses.isEmpty()) {
+                    sseEmitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+
+                for (EventChangeResponse eventChangeResponse : eventChangeResponses) {
+                    if (eventChangeResponse.getSequence() != lastSentSequence + 1) {
+                        sseEmitter.send(SseEmitter.event().name("reset").data(eventChangeResponse.getSequence()));
+                    }
+                    sseEmitter.send(SseEmitter.event()
+                            .id(String.valueOf(eventChangeResponse.getSequence()))
+                            .name(eventChangeResponse.getType().name())
+                            .data(eventChangeResponse, MediaType.APPLICATION_JSON));
+                    lastSentSequence = eventChangeResponse.getSequence();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            sseEmitter.complete();
+        } catch (IOException | IllegalStateException exception) {
+            open.set(false);
+        }
+    }
+
+    /**
+     * Answers {@code 304 Not Modified} without serializing the event when the client is up to date.
+     */
     @GetMapping("/event/{id}")
-    ResponseEntity<EventResponse> findById(@PathVariable Long id) {
+    ResponseEntity<EventResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+
+        EventVersionResponse eventVersionResponse = eventService.findVersionById(id);
+        if (isNotModified(webRequest, eventVersionResponse)) {
+            return null;
+        }
+
         EventResponse eventResponse = eventService.findById(id);
         return ResponseEntity.ok(eventResponse);
     }
 
+    private static boolean isNotModified(WebRequest webRequest, EventVersionResponse eventVersionResponse) {
+
+        long lastModifiedMillis = eventVersionResponse.getLastModifiedAt() != null
+                ? eventVersionResponse.getLastModifiedAt().toEpochMilli()
+                : -1L;
+
+        return webRequest.checkNotModified(eventVersionResponse.getTag(), lastModifiedMillis);
+    }
+
+    @GetMapping("/events/between")
+    ResponseEntity<List<EventResponse>> findAllBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        List<EventResponse> eventResponses = eventService.findAllBetween(from, to);
+        return ResponseEntity.ok(eventResponses);
+    }
+
+    @GetMapping("/events/date/{date}")
+    ResponseEntity<List<EventResponse>> findAllByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        List<EventResponse> eventResponses = eventService.findAllByDate(date);
+        return ResponseEntity.ok(eventResponses);
+    }
+
     @PostMapping("/event")
     ResponseEntity<Void> create(@RequestBody EventCreateRequest createRequest) {
         eventService.create(createRequest);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping(value = "/events/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<EventBulkCreateResponse> createAll(InputStream inputStream) {
+        EventBulkCreateResponse eventBulkCreateResponse = eventService.createAll(inputStream, EventBulkFormat.JSON_ARRAY);
+        return ResponseEntity.ok(eventBulkCreateResponse);
+    }
+
+    @PostMapping(value = "/events/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<EventBulkCreateResponse> createAllFromNdjson(InputStream inputStream) {
+        EventBulkCreateResponse eventBulkCreateResponse = eventService.createAll(inputStream, EventBulkFormat.NDJSON);
+        return ResponseEntity.ok(eventBulkCreateResponse);
+    }
+
 }
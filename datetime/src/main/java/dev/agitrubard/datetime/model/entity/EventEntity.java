@@ -13,6 +13,7 @@ public class EventEntity {
     private LocalDateTime publishAt;
     private boolean isPublished;
     private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
 
     public EventEntity(String name,
                        LocalDate date,
@@ -82,4 +83,24 @@ public class EventEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * Returns when the event last changed: when it was published, otherwise when it was created.
+     */
+    public LocalDateTime getModifiedAt() {
+
+        if (isPublished && publishedAt != null) {
+            return publishedAt;
+        }
+
+        return createdAt;
+    }
 }
@@ -0,0 +1,8 @@
+package dev.agitrubard.datetime.model.enums;
+
+public enum EventBulkFormat {
+
+    JSON_ARRAY,
+    NDJSON
+
+}
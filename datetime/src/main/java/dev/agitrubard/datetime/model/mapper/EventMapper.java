@@ -0,0 +1,33 @@
+package dev.agitrubard.datetime.model.mapper;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class EventMapper {
+
+    public EventResponse toResponse(EventEntity eventEntity) {
+        return new EventResponse(
+                eventEntity.getId(),
+                eventEntity.getName(),
+                eventEntity.getDate(),
+                eventEntity.getTime(),
+                eventEntity.getPublishAt(),
+                eventEntity.isPublished(),
+                eventEntity.getCreatedAt()
+        );
+    }
+
+    public List<EventResponse> toResponses(List<EventEntity> eventEntities) {
+        List<EventResponse> eventResponses = new ArrayList<>(eventEntities.size());
+        for (EventEntity eventEntity : eventEntities) {
+            eventResponses.add(this.toResponse(eventEntity));
+        }
+        return eventResponses;
+    }
+
+}
@@ -0,0 +1,55 @@
+package dev.agitrubard.datetime.model.response;
+
+import java.util.List;
+
+public class EventBulkCreateResponse {
+
+    private final int createdCount;
+    private final int failedCount;
+    private final List<Error> errors;
+
+    public EventBulkCreateResponse(int createdCount, int failedCount, List<Error> errors) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Capped at a fixed number of errors; {@link #getFailedCount()} always holds the full count.
+     */
+    public List<Error> getErrors() {
+        return errors;
+    }
+
+    public static class Error {
+
+        private final int index;
+        private final String message;
+
+        public Error(int index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+
+        /**
+         * Zero-based position of the failed item in the request body.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package dev.agitrubard.datetime.model.response;
+
+import dev.agitrubard.datetime.model.enums.EventChangeType;
+
+public class EventChangeResponse {
+
+    private final long sequence;
+    private final EventChangeType type;
+    private final EventResponse event;
+
+    public EventChangeResponse(long sequence, EventChangeType type, EventResponse event) {
+        this.sequence = sequence;
+        this.type = type;
+        this.event = event;
+    }
+
+    /**
+     * Sequences start at 1 and have no gaps.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public EventChangeType getType() {
+        return type;
+    }
+
+    public EventResponse getEvent() {
+        return event;
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.agitrubard.datetime.model.response;
+
+import java.util.List;
+
+public class EventPageResponse {
+
+    private final List<EventResponse> content;
+    private final String nextCursor;
+
+    public EventPageResponse(List<EventResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EventResponse> getContent() {
+        return content;
+    }
+
+    /**
+     * Opaque cursor of the next page, or {@code null} when this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
@@ -1,18 +1,32 @@
 package dev.agitrubard.datetime.model.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import dev.agitrubard.datetime.model.response.serializer.IsoLocalDateSerializer;
+import dev.agitrubard.datetime.model.response.serializer.IsoLocalDateTimeSerializer;
+import dev.agitrubard.datetime.model.response.serializer.IsoLocalTimeSerializer;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 public class EventResponse {
 
-    private Long id;
-    private String name;
-    private LocalDate date;
-    private LocalTime time;
-    private LocalDateTime publishAt;
-    private boolean isPublished;
-    private LocalDateTime createdAt;
+    private final Long id;
+    private final String name;
+
+    @JsonSerialize(using = IsoLocalDateSerializer.class)
+    private final LocalDate date;
+
+    @JsonSerialize(using = IsoLocalTimeSerializer.class)
+    private final LocalTime time;
+
+    @JsonSerialize(using = IsoLocalDateTimeSerializer.class)
+    private final LocalDateTime publishAt;
+
+    private final boolean isPublished;
+
+    @JsonSerialize(using = IsoLocalDateTimeSerializer.class)
+    private final LocalDateTime createdAt;
 
     public EventResponse(Long id,
                          String name,
@@ -36,56 +50,28 @@ public class EventResponse {
         return id;
     }
 
-    public void setId(Long id) {
-        this.id = id;
-    }
-
     public String getName() {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public LocalDate getDate() {
         return date;
     }
 
-    public void setDate(LocalDate date) {
-        this.date = date;
-    }
-
     public LocalTime getTime() {
         return time;
     }
 
-    public void setTime(LocalTime time) {
-        this.time = time;
-    }
-
     public LocalDateTime getPublishAt() {
         return publishAt;
     }
 
-    public void setPublishAt(LocalDateTime publishAt) {
-        this.publishAt = publishAt;
-    }
-
     public boolean isPublished() {
         return isPublished;
     }
 
-    public void setPublished(boolean published) {
-        isPublished = published;
-    }
-
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
 
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
 }
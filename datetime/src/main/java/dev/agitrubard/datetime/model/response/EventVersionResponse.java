@@ -0,0 +1,29 @@
+package dev.agitrubard.datetime.model.response;
+
+import java.time.Instant;
+
+public class EventVersionResponse {
+
+    private final String tag;
+    private final Instant lastModifiedAt;
+
+    public EventVersionResponse(String tag, Instant lastModifiedAt) {
+        this.tag = tag;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
+    /**
+     * Opaque value that changes whenever the versioned events change.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Time of the latest change, or {@code null} when there are no events.
+     */
+    public Instant getLastModifiedAt() {
+        return lastModifiedAt;
+    }
+
+}
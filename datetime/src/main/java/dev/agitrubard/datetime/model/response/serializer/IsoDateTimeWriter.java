@@ -0,0 +1,106 @@
+package dev.agitrubard.datetime.model.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes ISO-8601 dates and times without formatting a {@link String} first. Years outside {@code 0000-9999} fall
+ * back to {@link DateTimeFormatter}.
+ */
+final class IsoDateTimeWriter {
+
+    private static final int MAX_LENGTH = "9999-12-31T23:59:59.999999999".length();
+
+    private IsoDateTimeWriter() {
+    }
+
+    static void write(LocalDate date, JsonGenerator generator) throws IOException {
+
+        if (isOutOfFourDigitYearRange(date)) {
+            generator.writeString(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            return;
+        }
+
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeDate(date, buffer, 0);
+        generator.writeString(buffer, 0, length);
+    }
+
+    static void write(LocalTime time, JsonGenerator generator) throws IOException {
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeTime(time, buffer, 0);
+        generator.writeString(buffer, 0, length);
+    }
+
+    static void write(LocalDateTime dateTime, JsonGenerator generator) throws IOException {
+
+        if (isOutOfFourDigitYearRange(dateTime.toLocalDate())) {
+            generator.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+
+        char[] buffer = new char[MAX_LENGTH];
+        int length = writeDate(dateTime.toLocalDate(), buffer, 0);
+        buffer[length++] = 'T';
+        length = writeTime(dateTime.toLocalTime(), buffer, length);
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static boolean isOutOfFourDigitYearRange(LocalDate date) {
+        return date.getYear() < 0 || date.getYear() > 9999;
+    }
+
+    private static int writeDate(LocalDate date, char[] buffer, int position) {
+        int year = date.getYear();
+        buffer[position++] = digit(year / 1000);
+        buffer[position++] = digit(year / 100 % 10);
+        buffer[position++] = digit(year / 10 % 10);
+        buffer[position++] = digit(year % 10);
+        buffer[position++] = '-';
+        position = writeTwoDigits(date.getMonthValue(), buffer, position);
+        buffer[position++] = '-';
+        return writeTwoDigits(date.getDayOfMonth(), buffer, position);
+    }
+
+    private static int writeTime(LocalTime time, char[] buffer, int position) {
+        position = writeTwoDigits(time.getHour(), buffer, position);
+        buffer[position++] = ':';
+        position = writeTwoDigits(time.getMinute(), buffer, position);
+        buffer[position++] = ':';
+        position = writeTwoDigits(time.getSecond(), buffer, position);
+
+        int nano = time.getNano();
+        if (nano == 0) {
+            return position;
+        }
+
+        buffer[position++] = '.';
+        int digitCount = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digitCount--;
+        }
+
+        for (int index = position + digitCount - 1; index >= position; index--) {
+            buffer[index] = digit(nano % 10);
+            nano /= 10;
+        }
+        return position + digitCount;
+    }
+
+    private static int writeTwoDigits(int value, char[] buffer, int position) {
+        buffer[position++] = digit(value / 10);
+        buffer[position++] = digit(value % 10);
+        return position;
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+}
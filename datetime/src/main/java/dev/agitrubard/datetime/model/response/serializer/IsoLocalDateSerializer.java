@@ -0,0 +1,21 @@
+package dev.agitrubard.datetime.model.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+public class IsoLocalDateSerializer extends StdSerializer<LocalDate> {
+
+    public IsoLocalDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        IsoDateTimeWriter.write(value, generator);
+    }
+
+}
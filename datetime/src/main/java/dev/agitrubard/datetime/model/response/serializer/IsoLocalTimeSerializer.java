@@ -0,0 +1,21 @@
+package dev.agitrubard.datetime.model.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalTime;
+
+public class IsoLocalTimeSerializer extends StdSerializer<LocalTime> {
+
+    public IsoLocalTimeSerializer() {
+        super(LocalTime.class);
+    }
+
+    @Override
+    public void serialize(LocalTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        IsoDateTimeWriter.write(value, generator);
+    }
+
+}
@@ -2,15 +2,55 @@ package dev.agitrubard.datetime.repository;
 
 import dev.agitrubard.datetime.model.entity.EventEntity;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepository {
 
     List<EventEntity> findAll();
 
+    /**
+     * Returns up to {@code limit} events with an ID greater than {@code afterId}, ordered by ID.
+     * A {@code null} {@code afterId} starts from the first event.
+     */
+    List<EventEntity> findAllAfterId(Long afterId, int limit);
+
+    /**
+     * Streams every event in ID order straight from the store, without copying it into a list first.
+     */
+    Stream<EventEntity> streamAll();
+
     Optional<EventEntity> findById(Long id);
 
+    List<EventEntity> findAllByDateTimeBetween(LocalDateTime from, LocalDateTime to);
+
+    List<EventEntity> findAllByDate(LocalDate date);
+
     void save(EventEntity eventEntity);
 
+    /**
+     * Saves the events as one batch: no other event gets an ID between theirs, and they share one creation time.
+     */
+    void saveAll(List<EventEntity> eventEntities);
+
+    void publish(Long id);
+
+    /**
+     * Returns a number that changes whenever an event is created or published, updated after the change is visible.
+     */
+    long version();
+
+    /**
+     * Returns the latest {@link EventEntity#getModifiedAt()} of all events, or {@code null} when there are none.
+     */
+    LocalDateTime lastModifiedAt();
+
+    /**
+     * Returns whether no other change happened in the second of the last one, so HTTP dates identify the version.
+     */
+    boolean isLastModifiedAtExact();
+
 }
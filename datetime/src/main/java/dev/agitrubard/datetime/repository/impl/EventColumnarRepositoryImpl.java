@@ -0,0 +1,408 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compact {@link EventRepository} engine for large event counts, enabled with
+ * {@code event.repository.engine=columnar}. Every field lives in a primitive column, and {@link EventEntity} objects
+ * are only created when they are returned.
+ *
+ * <p>Writes are serialized by a lock, reads are lock-free: a row only becomes visible through the volatile row count
+ * after all of its columns are written.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "event.repository.engine", havingValue = "columnar")
+class EventColumnarRepositoryImpl implements EventRepository {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_TIME = -1L;
+    private static final int NO_DATE_TIME = -1;
+
+    private static final VarHandle PUBLISHED_WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final EventNameDictionary nameDictionary = new EventNameDictionary();
+    private final EventModificationStamp modificationStamp = new EventModificationStamp();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CoarseClock coarseClock;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int[][] dateTimeRuns = new int[0][];
+    private volatile int size;
+
+    EventColumnarRepositoryImpl(CoarseClock coarseClock, TimeOrderedIdGenerator timeOrderedIdGenerator) {
+        this.coarseClock = coarseClock;
+        this.timeOrderedIdGenerator = timeOrderedIdGenerator;
+    }
+
+    @Override
+    public List<EventEntity> findAll() {
+        return this.materialize(0, size);
+    }
+
+    @Override
+    public List<EventEntity> findAllAfterId(Long afterId, int limit) {
+        int count = size;
+        int from = afterId != null ? this.rowAfter(afterId, count) : 0;
+        int to = (int) Math.min(count, (long) from + limit);
+        return this.materialize(from, to);
+    }
+
+    @Override
+    public Stream<EventEntity> streamAll() {
+        return IntStream.range(0, size)
+                .mapToObj(this::entityAt);
+    }
+
+    @Override
+    public Optional<EventEntity> findById(Long id) {
+
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        int row = this.rowOf(id, size);
+        return row >= 0 ? Optional.of(this.entityAt(row)) : Optional.empty();
+    }
+
+    private int rowOf(long id, int count) {
+        int row = this.rowAfter(id - 1, count);
+        return row < count && idOf(chunks, row) == id ? row : -1;
+    }
+
+    private int rowAfter(long id, int count) {
+        Chunk[] chunks = this.chunks;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (idOf(chunks, middle) > id) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public List<EventEntity> findAllByDateTimeBetween(LocalDateTime from, LocalDateTime to) {
+        return this.findAllByDateTime(
+                from.toLocalDate().toEpochDay(), from.toLocalTime().toNanoOfDay(),
+                to.toLocalDate().toEpochDay(), to.toLocalTime().toNanoOfDay()
+        );
+    }
+
+    @Override
+    public List<EventEntity> findAllByDate(LocalDate date) {
+        return this.findAllByDateTime(date.toEpochDay(), 0L, date.toEpochDay() + 1, 0L);
+    }
+
+    /**
+     * Merges the rows within {@code [from, to)} of every index run, ordered by date, time and ID.
+     */
+    private List<EventEntity> findAllByDateTime(long fromDay, long fromNanos, long toDay, long toNanos) {
+        int[][] runs = dateTimeRuns;
+        Chunk[] chunks = this.chunks;
+
+        int[] positions = new int[runs.length];
+        int[] ends = new int[runs.length];
+        int resultSize = 0;
+        for (int run = 0; run < runs.length; run++) {
+            positions[run] = lowerBound(chunks, runs[run], fromDay, fromNanos);
+            ends[run] = lowerBound(chunks, runs[run], toDay, toNanos);
+            resultSize += Math.max(0, ends[run] - positions[run]);
+        }
+
+        List<EventEntity> eventEntities = new ArrayList<>(resultSize);
+        while (eventEntities.size() < resultSize) {
+            int next = -1;
+            for (int run = 0; run < runs.length; run++) {
+                if (positions[run] < ends[run] && (next == -1
+                        || compare(chunks, runs[run][positions[run]], runs[next][positions[next]]) < 0)) {
+                    next = run;
+                }
+            }
+            eventEntities.add(this.entityAt(runs[next][positions[next]++]));
+        }
+        return eventEntities;
+    }
+
+    /**
+     * The index is a list of sorted runs whose sizes halve from one run to the next, so a run is merged into a larger
+     * one only once the larger one has doubled.
+     */
+    private void index(int fromRow, int toRow) {
+        Chunk[] chunks = this.chunks;
+        List<int[]> runs = new ArrayList<>(Arrays.asList(dateTimeRuns));
+        for (int row = fromRow; row < toRow; row++) {
+            if (chunks[row >>> CHUNK_SHIFT].dates[row & CHUNK_MASK] == NO_DATE) {
+                continue;
+            }
+
+            int[] run = {row};
+            while (!runs.isEmpty() && runs.getLast().length <= run.length) {
+                run = merge(chunks, runs.removeLast(), run);
+            }
+            runs.add(run);
+        }
+        dateTimeRuns = runs.toArray(int[][]::new);
+    }
+
+    private static int[] merge(Chunk[] chunks, int[] left, int[] right) {
+        int[] merged = new int[left.length + right.length];
+        int leftIndex = 0;
+        int rightIndex = 0;
+        for (int index = 0; index < merged.length; index++) {
+            if (rightIndex == right.length
+                    || (leftIndex < left.length && compare(chunks, left[leftIndex], right[rightIndex]) <= 0)) {
+                merged[index] = left[leftIndex++];
+            } else {
+                merged[index] = right[rightIndex++];
+            }
+        }
+        return merged;
+    }
+
+    private static int lowerBound(Chunk[] chunks, int[] run, long day, long nanos) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int row = run[middle];
+            if (isAtOrAfter(dayOf(chunks, row), nanosOf(chunks, row), day, nanos)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(Chunk[] chunks, int row, int otherRow) {
+        int comparison = Integer.compare(dayOf(chunks, row), dayOf(chunks, otherRow));
+        if (comparison == 0) {
+            comparison = Long.compare(nanosOf(chunks, row), nanosOf(chunks, otherRow));
+        }
+        return comparison != 0 ? comparison : Integer.compare(row, otherRow);
+    }
+
+    private static long idOf(Chunk[] chunks, int row) {
+        return chunks[row >>> CHUNK_SHIFT].ids[row & CHUNK_MASK];
+    }
+
+    private static int dayOf(Chunk[] chunks, int row) {
+        return chunks[row >>> CHUNK_SHIFT].dates[row & CHUNK_MASK];
+    }
+
+    private static long nanosOf(Chunk[] chunks, int row) {
+        return Math.max(0L, chunks[row >>> CHUNK_SHIFT].times[row & CHUNK_MASK]);
+    }
+
+    private static boolean isAtOrAfter(long day, long nanos, long otherDay, long otherNanos) {
+        return day > otherDay || (day == otherDay && nanos >= otherNanos);
+    }
+
+    @Override
+    public void save(EventEntity eventEntity) {
+        this.saveAll(List.of(eventEntity));
+    }
+
+    @Override
+    public void saveAll(List<EventEntity> eventEntities) {
+        writeLock.lock();
+        try {
+            LocalDateTime createdAt = coarseClock.localDateTime();
+            int row = size;
+            for (EventEntity eventEntity : eventEntities) {
+                eventEntity.setId(timeOrderedIdGenerator.nextId());
+                eventEntity.setCreatedAt(createdAt);
+                this.write(row, eventEntity);
+                row++;
+            }
+            this.index(size, row);
+            size = row;
+
+            for (EventEntity eventEntity : eventEntities) {
+                modificationStamp.modified(eventEntity.getModifiedAt());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void publish(Long id) {
+        writeLock.lock();
+        try {
+            int row = id != null ? this.rowOf(id, size) : -1;
+            if (row < 0) {
+                return;
+            }
+
+            Chunk chunk = chunks[row >>> CHUNK_SHIFT];
+            if (this.isPublished(chunk, row & CHUNK_MASK)) {
+                return;
+            }
+
+            writeDateTime(chunk.publishedAtSeconds, chunk.publishedAtNanos, row & CHUNK_MASK,
+                    coarseClock.localDateTime());
+            this.setPublished(chunk, row & CHUNK_MASK);
+            modificationStamp.modified(this.entityAt(row).getModifiedAt());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return modificationStamp.version();
+    }
+
+    @Override
+    public LocalDateTime lastModifiedAt() {
+        return modificationStamp.lastModifiedAt();
+    }
+
+    @Override
+    public boolean isLastModifiedAtExact() {
+        return modificationStamp.isLastModifiedAtExact();
+    }
+
+    private void write(int row, EventEntity eventEntity) {
+        int chunkIndex = row >>> CHUNK_SHIFT;
+        if (chunkIndex == chunks.length) {
+            Chunk[] grownChunks = Arrays.copyOf(chunks, chunkIndex + 1);
+            grownChunks[chunkIndex] = new Chunk();
+            chunks = grownChunks;
+        }
+
+        Chunk chunk = chunks[chunkIndex];
+        int index = row & CHUNK_MASK;
+
+        chunk.ids[index] = eventEntity.getId();
+        chunk.nameCodes[index] = nameDictionary.encode(eventEntity.getName());
+        chunk.dates[index] = toEpochDay(eventEntity.getDate());
+        chunk.times[index] = eventEntity.getTime() != null ? eventEntity.getTime().toNanoOfDay() : NO_TIME;
+        writeDateTime(chunk.publishAtSeconds, chunk.publishAtNanos, index, eventEntity.getPublishAt());
+        writeDateTime(chunk.createdAtSeconds, chunk.createdAtNanos, index, eventEntity.getCreatedAt());
+        writeDateTime(chunk.publishedAtSeconds, chunk.publishedAtNanos, index, eventEntity.getPublishedAt());
+
+        if (eventEntity.isPublished()) {
+            this.setPublished(chunk, index);
+        }
+    }
+
+    private boolean isPublished(Chunk chunk, int index) {
+        long bits = (long) PUBLISHED_WORDS.getAcquire(chunk.publishedWords, index >>> 6);
+        return (bits & (1L << index)) != 0;
+    }
+
+    private void setPublished(Chunk chunk, int index) {
+        int word = index >>> 6;
+        long bits = (long) PUBLISHED_WORDS.getAcquire(chunk.publishedWords, word);
+        PUBLISHED_WORDS.setRelease(chunk.publishedWords, word, bits | (1L << index));
+    }
+
+    private static int toEpochDay(LocalDate date) {
+
+        if (date == null) {
+            return NO_DATE;
+        }
+
+        long epochDay = date.toEpochDay();
+        if (epochDay <= NO_DATE || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Event date is out of range: " + date);
+        }
+
+        return (int) epochDay;
+    }
+
+    private static void writeDateTime(long[] seconds, int[] nanos, int index, LocalDateTime dateTime) {
+
+        if (dateTime == null) {
+            nanos[index] = NO_DATE_TIME;
+            return;
+        }
+
+        seconds[index] = dateTime.toEpochSecond(ZoneOffset.UTC);
+        nanos[index] = dateTime.getNano();
+    }
+
+    private List<EventEntity> materialize(int from, int to) {
+        List<EventEntity> eventEntities = new ArrayList<>(Math.max(0, to - from));
+        for (int row = from; row < to; row++) {
+            eventEntities.add(this.entityAt(row));
+        }
+        return eventEntities;
+    }
+
+    private EventEntity entityAt(int row) {
+        Chunk chunk = chunks[row >>> CHUNK_SHIFT];
+        int index = row & CHUNK_MASK;
+
+        int day = chunk.dates[index];
+        long nanoOfDay = chunk.times[index];
+
+        EventEntity eventEntity = new EventEntity(
+                nameDictionary.decode(chunk.nameCodes[index]),
+                day != NO_DATE ? LocalDate.ofEpochDay(day) : null,
+                nanoOfDay != NO_TIME ? LocalTime.ofNanoOfDay(nanoOfDay) : null,
+                readDateTime(chunk.publishAtSeconds, chunk.publishAtNanos, index),
+                this.isPublished(chunk, index)
+        );
+        eventEntity.setId(chunk.ids[index]);
+        eventEntity.setCreatedAt(readDateTime(chunk.createdAtSeconds, chunk.createdAtNanos, index));
+        eventEntity.setPublishedAt(readDateTime(chunk.publishedAtSeconds, chunk.publishedAtNanos, index));
+        return eventEntity;
+    }
+
+    private static LocalDateTime readDateTime(long[] seconds, int[] nanos, int index) {
+
+        if (nanos[index] == NO_DATE_TIME) {
+            return null;
+        }
+
+        return LocalDateTime.ofEpochSecond(seconds[index], nanos[index], ZoneOffset.UTC);
+    }
+
+    private static final class Chunk {
+
+        private final long[] ids = new long[CHUNK_SIZE];
+        private final int[] nameCodes = new int[CHUNK_SIZE];
+        private final int[] dates = new int[CHUNK_SIZE];
+        private final long[] times = new long[CHUNK_SIZE];
+        private final long[] publishAtSeconds = new long[CHUNK_SIZE];
+        private final int[] publishAtNanos = new int[CHUNK_SIZE];
+        private final long[] createdAtSeconds = new long[CHUNK_SIZE];
+        private final int[] createdAtNanos = new int[CHUNK_SIZE];
+        private final long[] publishedAtSeconds = new long[CHUNK_SIZE];
+        private final int[] publishedAtNanos = new int[CHUNK_SIZE];
+        private final long[] publishedWords = new long[CHUNK_SIZE / Long.SIZE];
+
+    }
+
+}
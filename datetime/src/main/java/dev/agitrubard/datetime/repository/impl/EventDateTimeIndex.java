@@ -0,0 +1,54 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Event IDs sorted by the event's {@code date} and {@code time}. Events without a {@code date} are not indexed, events
+ * without a {@code time} are indexed at the start of their day.
+ */
+class EventDateTimeIndex {
+
+    private final NavigableSet<Key> keys = new ConcurrentSkipListSet<>();
+
+    void add(EventEntity eventEntity) {
+
+        if (eventEntity.getDate() == null) {
+            return;
+        }
+
+        LocalTime time = eventEntity.getTime() != null ? eventEntity.getTime() : LocalTime.MIN;
+        keys.add(new Key(LocalDateTime.of(eventEntity.getDate(), time), eventEntity.getId()));
+    }
+
+    /**
+     * Returns the IDs of the events that start within {@code [from, to)}.
+     */
+    List<Long> findIdsBetween(LocalDateTime from, LocalDateTime to) {
+        return keys.subSet(new Key(from, Long.MIN_VALUE), true, new Key(to, Long.MIN_VALUE), false)
+                .stream()
+                .map(Key::id)
+                .toList();
+    }
+
+    List<Long> findIdsByDate(LocalDate date) {
+        return this.findIdsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    private record Key(LocalDateTime dateTime, long id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int comparison = dateTime.compareTo(other.dateTime);
+            return comparison != 0 ? comparison : Long.compare(id, other.id);
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of CRC-checked binary records in a memory-mapped file. Records never cross a region boundary, and a
+ * zero length marks the end of the log.
+ *
+ * <p>{@link #append(ByteBuffer)} must be called by one thread at a time.</p>
+ */
+final class EventLogFile implements Closeable {
+
+    static final int REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    private static final int END_OF_LOG = 0;
+    private static final int PADDING = -1;
+
+    private final FileChannel channel;
+    private final EventLogFsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService fsyncScheduler;
+    // Not a monitor, so a virtual thread waiting for an fsync does not pin its carrier thread.
+    private final ReentrantLock fsyncLock = new ReentrantLock();
+
+    private volatile MappedByteBuffer[] regions = new MappedByteBuffer[0];
+    private long writePosition;
+    private volatile long appendedPosition;
+    private volatile long durablePosition;
+
+    interface RecordVisitor {
+
+        void visit(long offset, ByteBuffer payload);
+
+    }
+
+    EventLogFile(Path path, EventLogFsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            this.channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            );
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Event log could not be opened: " + path, exception);
+        }
+
+        this.fsyncPolicy = fsyncPolicy;
+        if (fsyncPolicy == EventLogFsyncPolicy.INTERVAL) {
+            this.fsyncScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("event-log-fsync").daemon().factory()
+            );
+            long intervalMillis = fsyncInterval.toMillis();
+            this.fsyncScheduler.scheduleWithFixedDelay(this::force, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.fsyncScheduler = null;
+        }
+    }
+
+    /**
+     * A torn record left behind by a crash ends the recovery and is zeroed out, together with the rest of its region.
+     */
+    void recover(RecordVisitor visitor) {
+        try {
+            long fileSize = channel.size();
+            for (long regionStart = 0; regionStart < fileSize; regionStart += REGION_SIZE) {
+                this.region(regionStart);
+            }
+
+            long position = 0;
+            while (position < fileSize) {
+                MappedByteBuffer region = this.region(position);
+                int regionOffset = (int) (position % REGION_SIZE);
+                int regionRemaining = REGION_SIZE - regionOffset;
+
+                int length = regionRemaining < HEADER_SIZE ? PADDING : region.getInt(regionOffset);
+                if (length == END_OF_LOG) {
+                    break;
+                }
+
+                if (length == PADDING) {
+                    position += regionRemaining;
+                    continue;
+                }
+
+                if (length < 0 || length > regionRemaining - HEADER_SIZE) {
+                    truncate(region, regionOffset);
+                    break;
+                }
+
+                ByteBuffer payload = region.slice(regionOffset + HEADER_SIZE, length);
+                if (checksum(payload) != region.getInt(regionOffset + Integer.BYTES)) {
+                    truncate(region, regionOffset);
+                    break;
+                }
+
+                visitor.visit(position, payload);
+                position += HEADER_SIZE + length;
+            }
+
+            this.writePosition = position;
+            this.appendedPosition = position;
+            this.durablePosition = position;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Event log could not be recovered", exception);
+        }
+    }
+
+    long append(ByteBuffer payload) {
+
+        int length = payload.remaining();
+        if (length == 0 || length > REGION_SIZE - HEADER_SIZE) {
+            throw new IllegalArgumentException("Invalid event log record length: " + length);
+        }
+
+        int regionOffset = (int) (writePosition % REGION_SIZE);
+        if (regionOffset + HEADER_SIZE + length > REGION_SIZE) {
+            if (REGION_SIZE - regionOffset >= Integer.BYTES) {
+                this.region(writePosition).putInt(regionOffset, PADDING);
+            }
+            writePosition += REGION_SIZE - regionOffset;
+            regionOffset = 0;
+        }
+
+        MappedByteBuffer region = this.region(writePosition);
+        region.put(regionOffset + HEADER_SIZE, payload, payload.position(), length);
+        region.putInt(regionOffset + Integer.BYTES, checksum(payload));
+        region.putInt(regionOffset, length);
+
+        long offset = writePosition;
+        writePosition += HEADER_SIZE + length;
+        appendedPosition = writePosition;
+        return offset;
+    }
+
+    ByteBuffer read(long offset) {
+        MappedByteBuffer region = regions[(int) (offset / REGION_SIZE)];
+        int regionOffset = (int) (offset % REGION_SIZE);
+        int length = region.getInt(regionOffset);
+        return region.slice(regionOffset + HEADER_SIZE, length).asReadOnlyBuffer();
+    }
+
+    long appendedPosition() {
+        return appendedPosition;
+    }
+
+    /**
+     * With {@link EventLogFsyncPolicy#ALWAYS}, blocks until every record before {@code position} is on disk. Concurrent
+     * callers share fsyncs.
+     */
+    void awaitDurable(long position) {
+
+        if (fsyncPolicy != EventLogFsyncPolicy.ALWAYS || durablePosition >= position) {
+            return;
+        }
+
+        fsyncLock.lock();
+        try {
+            if (durablePosition < position) {
+                this.forceUpTo(appendedPosition);
+            }
+        } finally {
+            fsyncLock.unlock();
+        }
+    }
+
+    void force() {
+        fsyncLock.lock();
+        try {
+            this.forceUpTo(appendedPosition);
+        } finally {
+            fsyncLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+
+        if (fsyncPolicy != EventLogFsyncPolicy.NEVER) {
+            this.force();
+        }
+        channel.close();
+    }
+
+    private void forceUpTo(long position) {
+        long from = durablePosition;
+        while (from < position) {
+            MappedByteBuffer region = regions[(int) (from / REGION_SIZE)];
+            int regionOffset = (int) (from % REGION_SIZE);
+            int length = (int) Math.min(REGION_SIZE - regionOffset, position - from);
+            region.force(regionOffset, length);
+            from += length;
+        }
+        durablePosition = position;
+    }
+
+    private MappedByteBuffer region(long position) {
+        int regionIndex = (int) (position / REGION_SIZE);
+        MappedByteBuffer[] currentRegions = regions;
+        if (regionIndex < currentRegions.length) {
+            return currentRegions[regionIndex];
+        }
+
+        try {
+            MappedByteBuffer[] grownRegions = Arrays.copyOf(currentRegions, regionIndex + 1);
+            for (int index = currentRegions.length; index <= regionIndex; index++) {
+                grownRegions[index] = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * REGION_SIZE, REGION_SIZE);
+            }
+            regions = grownRegions;
+            return grownRegions[regionIndex];
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Event log region could not be mapped", exception);
+        }
+    }
+
+    private static void truncate(MappedByteBuffer region, int regionOffset) {
+        region.put(regionOffset, new byte[REGION_SIZE - regionOffset]);
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+}
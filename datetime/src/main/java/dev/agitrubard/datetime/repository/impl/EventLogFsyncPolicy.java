@@ -0,0 +1,20 @@
+package dev.agitrubard.datetime.repository.impl;
+
+enum EventLogFsyncPolicy {
+
+    /**
+     * Every write waits until its records are on disk.
+     */
+    ALWAYS,
+
+    /**
+     * A crash can lose the writes of the last interval.
+     */
+    INTERVAL,
+
+    /**
+     * Records reach the disk whenever the operating system writes them back.
+     */
+    NEVER
+
+}
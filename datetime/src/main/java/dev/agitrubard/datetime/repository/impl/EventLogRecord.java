@@ -0,0 +1,149 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary layout of an {@link EventEntity} in the {@link EventLogFile}. Local date-times are stored as if they were in
+ * UTC.
+ *
+ * <pre>
+ * long   id
+ * byte   flags         (published, has name, has date, has time, has publishAt, has publishedAt)
+ * long   createdAt     epoch second, followed by an int nano of second
+ * short  name length   followed by the UTF-8 bytes of the name, if present
+ * long   date          epoch day, if present
+ * long   time          nano of day, if present
+ * long   publishAt     epoch second, followed by an int nano of second, if present
+ * long   publishedAt   epoch second, followed by an int nano of second, if present
+ * </pre>
+ */
+final class EventLogRecord {
+
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+
+    private static final byte PUBLISHED = 1;
+    private static final byte HAS_NAME = 1 << 1;
+    private static final byte HAS_DATE = 1 << 2;
+    private static final byte HAS_TIME = 1 << 3;
+    private static final byte HAS_PUBLISH_AT = 1 << 4;
+    private static final byte HAS_PUBLISHED_AT = 1 << 5;
+
+    private static final int FIXED_SIZE = Long.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+    private EventLogRecord() {
+    }
+
+    static ByteBuffer encode(EventEntity eventEntity) {
+
+        byte[] name = eventEntity.getName() != null
+                ? eventEntity.getName().getBytes(StandardCharsets.UTF_8)
+                : null;
+
+        if (name != null && name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Event name must not be longer than " + MAX_NAME_LENGTH + " bytes");
+        }
+
+        int size = FIXED_SIZE
+                + (name != null ? Short.BYTES + name.length : 0)
+                + (eventEntity.getDate() != null ? Long.BYTES : 0)
+                + (eventEntity.getTime() != null ? Long.BYTES : 0)
+                + (eventEntity.getPublishAt() != null ? Long.BYTES + Integer.BYTES : 0)
+                + (eventEntity.getPublishedAt() != null ? Long.BYTES + Integer.BYTES : 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(eventEntity.getId());
+        buffer.put(flagsOf(eventEntity, name));
+        putDateTime(buffer, eventEntity.getCreatedAt());
+
+        if (name != null) {
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+
+        if (eventEntity.getDate() != null) {
+            buffer.putLong(eventEntity.getDate().toEpochDay());
+        }
+
+        if (eventEntity.getTime() != null) {
+            buffer.putLong(eventEntity.getTime().toNanoOfDay());
+        }
+
+        if (eventEntity.getPublishAt() != null) {
+            putDateTime(buffer, eventEntity.getPublishAt());
+        }
+
+        if (eventEntity.getPublishedAt() != null) {
+            putDateTime(buffer, eventEntity.getPublishedAt());
+        }
+
+        return buffer.flip();
+    }
+
+    static EventEntity decode(ByteBuffer payload) {
+        ByteBuffer buffer = payload.duplicate();
+
+        long id = buffer.getLong();
+        byte flags = buffer.get();
+        LocalDateTime createdAt = getDateTime(buffer);
+
+        String name = null;
+        if ((flags & HAS_NAME) != 0) {
+            byte[] nameBytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(nameBytes);
+            name = new String(nameBytes, StandardCharsets.UTF_8);
+        }
+
+        LocalDate date = (flags & HAS_DATE) != 0 ? LocalDate.ofEpochDay(buffer.getLong()) : null;
+        LocalTime time = (flags & HAS_TIME) != 0 ? LocalTime.ofNanoOfDay(buffer.getLong()) : null;
+        LocalDateTime publishAt = (flags & HAS_PUBLISH_AT) != 0 ? getDateTime(buffer) : null;
+        LocalDateTime publishedAt = (flags & HAS_PUBLISHED_AT) != 0 ? getDateTime(buffer) : null;
+
+        EventEntity eventEntity = new EventEntity(name, date, time, publishAt, (flags & PUBLISHED) != 0);
+        eventEntity.setId(id);
+        eventEntity.setCreatedAt(createdAt);
+        eventEntity.setPublishedAt(publishedAt);
+        return eventEntity;
+    }
+
+    private static byte flagsOf(EventEntity eventEntity, byte[] name) {
+        int flags = 0;
+        if (eventEntity.isPublished()) {
+            flags |= PUBLISHED;
+        }
+        if (name != null) {
+            flags |= HAS_NAME;
+        }
+        if (eventEntity.getDate() != null) {
+            flags |= HAS_DATE;
+        }
+        if (eventEntity.getTime() != null) {
+            flags |= HAS_TIME;
+        }
+        if (eventEntity.getPublishAt() != null) {
+            flags |= HAS_PUBLISH_AT;
+        }
+        if (eventEntity.getPublishedAt() != null) {
+            flags |= HAS_PUBLISHED_AT;
+        }
+        return (byte) flags;
+    }
+
+    private static void putDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+        buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,255 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.time.CoarseClock;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Durable {@link EventRepository} engine on an append-only {@link EventLogFile}, enabled with
+ * {@code event.repository.engine=log}. Only an index of IDs and record offsets is kept on the heap.
+ */
+@Repository
+@ConditionalOnProperty(name = "event.repository.engine", havingValue = "log")
+class EventLogRepositoryImpl implements EventRepository {
+
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final VarHandle OFFSETS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final EventLogFile eventLogFile;
+    private final EventDateTimeIndex dateTimeIndex = new EventDateTimeIndex();
+    private final EventModificationStamp modificationStamp = new EventModificationStamp();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final CoarseClock coarseClock;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    private volatile long[] ids = new long[INITIAL_INDEX_CAPACITY];
+    private volatile long[] offsets = new long[INITIAL_INDEX_CAPACITY];
+    private volatile int size;
+    private long lastId;
+
+    EventLogRepositoryImpl(@Value("${event.repository.log.path:data/events.log}") Path path,
+                           @Value("${event.repository.log.fsync:always}") EventLogFsyncPolicy fsyncPolicy,
+                           @Value("${event.repository.log.fsync-interval:100ms}") Duration fsyncInterval,
+                           CoarseClock coarseClock,
+                           TimeOrderedIdGenerator timeOrderedIdGenerator) {
+
+        this.coarseClock = coarseClock;
+        this.timeOrderedIdGenerator = timeOrderedIdGenerator;
+        this.eventLogFile = new EventLogFile(path, fsyncPolicy, fsyncInterval);
+        this.eventLogFile.recover(this::recover);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        eventLogFile.close();
+    }
+
+    @Override
+    public List<EventEntity> findAll() {
+        int count = size;
+        List<EventEntity> eventEntities = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) {
+            eventEntities.add(this.entityAt(position));
+        }
+        return eventEntities;
+    }
+
+    @Override
+    public List<EventEntity> findAllAfterId(Long afterId, int limit) {
+        int count = size;
+        int from = afterId != null ? this.positionAfter(afterId, count) : 0;
+        int to = (int) Math.min(count, (long) from + limit);
+
+        List<EventEntity> eventEntities = new ArrayList<>(Math.max(0, to - from));
+        for (int position = from; position < to; position++) {
+            eventEntities.add(this.entityAt(position));
+        }
+        return eventEntities;
+    }
+
+    @Override
+    public Stream<EventEntity> streamAll() {
+        return IntStream.range(0, size)
+                .mapToObj(this::entityAt);
+    }
+
+    @Override
+    public Optional<EventEntity> findById(Long id) {
+
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        int position = this.positionOf(id, size);
+        if (position < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.entityAt(position));
+    }
+
+    @Override
+    public List<EventEntity> findAllByDateTimeBetween(LocalDateTime from, LocalDateTime to) {
+        return this.findAllByIds(dateTimeIndex.findIdsBetween(from, to));
+    }
+
+    @Override
+    public List<EventEntity> findAllByDate(LocalDate date) {
+        return this.findAllByIds(dateTimeIndex.findIdsByDate(date));
+    }
+
+    private List<EventEntity> findAllByIds(List<Long> ids) {
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public void save(EventEntity eventEntity) {
+        this.saveAll(List.of(eventEntity));
+    }
+
+    @Override
+    public void saveAll(List<EventEntity> eventEntities) {
+        long appendedPosition;
+
+        appendLock.lock();
+        try {
+            LocalDateTime createdAt = coarseClock.localDateTime();
+            for (EventEntity eventEntity : eventEntities) {
+                // Older logs may hold IDs above the clock, for example the dense IDs of earlier versions.
+                lastId = Math.max(timeOrderedIdGenerator.nextId(), lastId + 1);
+                eventEntity.setId(lastId);
+                eventEntity.setCreatedAt(createdAt);
+
+                long offset = eventLogFile.append(EventLogRecord.encode(eventEntity));
+                this.addToIndex(eventEntity.getId(), offset);
+                dateTimeIndex.add(eventEntity);
+                modificationStamp.modified(eventEntity.getModifiedAt());
+            }
+            appendedPosition = eventLogFile.appendedPosition();
+        } finally {
+            appendLock.unlock();
+        }
+
+        eventLogFile.awaitDurable(appendedPosition);
+    }
+
+    @Override
+    public void publish(Long id) {
+        long appendedPosition;
+
+        appendLock.lock();
+        try {
+            int position = this.positionOf(id, size);
+            if (position < 0) {
+                return;
+            }
+
+            EventEntity eventEntity = this.entityAt(position);
+            if (eventEntity.isPublished()) {
+                return;
+            }
+
+            eventEntity.setPublishedAt(coarseClock.localDateTime());
+            eventEntity.setPublished(true);
+            long offset = eventLogFile.append(EventLogRecord.encode(eventEntity));
+            OFFSETS.setRelease(offsets, position, offset);
+            modificationStamp.modified(eventEntity.getModifiedAt());
+            appendedPosition = eventLogFile.appendedPosition();
+        } finally {
+            appendLock.unlock();
+        }
+
+        eventLogFile.awaitDurable(appendedPosition);
+    }
+
+    @Override
+    public long version() {
+        return modificationStamp.version();
+    }
+
+    @Override
+    public LocalDateTime lastModifiedAt() {
+        return modificationStamp.lastModifiedAt();
+    }
+
+    @Override
+    public boolean isLastModifiedAtExact() {
+        return modificationStamp.isLastModifiedAtExact();
+    }
+
+    /**
+     * The first record of an ID adds it to the index, later ones are newer versions of the same event.
+     */
+    private void recover(long offset, ByteBuffer payload) {
+        EventEntity eventEntity = EventLogRecord.decode(payload);
+        long id = eventEntity.getId();
+        modificationStamp.modified(eventEntity.getModifiedAt());
+
+        if (id > lastId) {
+            lastId = id;
+            this.addToIndex(id, offset);
+            dateTimeIndex.add(eventEntity);
+            return;
+        }
+
+        int position = this.positionOf(id, size);
+        if (position >= 0) {
+            OFFSETS.setRelease(offsets, position, offset);
+        }
+    }
+
+    private EventEntity entityAt(int position) {
+        long offset = (long) OFFSETS.getAcquire(offsets, position);
+        return EventLogRecord.decode(eventLogFile.read(offset));
+    }
+
+    private int positionOf(long id, int count) {
+        return Arrays.binarySearch(ids, 0, count, id);
+    }
+
+    private int positionAfter(long id, int count) {
+        int position = this.positionOf(id, count);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    /**
+     * The entry is written before the size, so a reader that sees the new size also sees the entry.
+     */
+    private void addToIndex(long id, long offset) {
+        int position = size;
+        if (position == ids.length) {
+            int capacity = position * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+
+        ids[position] = id;
+        OFFSETS.setRelease(offsets, position, offset);
+        size = position + 1;
+    }
+
+}
@@ -0,0 +1,55 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Version and last modification time of an event store, shared by the repository engines.
+ */
+class EventModificationStamp {
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0L, null, true));
+
+    void modified(LocalDateTime modifiedAt) {
+        state.updateAndGet(current -> current.next(modifiedAt));
+    }
+
+    long version() {
+        return state.get().version();
+    }
+
+    LocalDateTime lastModifiedAt() {
+        return state.get().lastModifiedAt();
+    }
+
+    /**
+     * HTTP dates have a resolution of one second, so the modification time only identifies the current version when
+     * the last change was the first one in a later second than all changes before it.
+     */
+    boolean isLastModifiedAtExact() {
+        State current = state.get();
+        return current.exact() && current.lastModifiedAt() != null;
+    }
+
+    private record State(long version, LocalDateTime lastModifiedAt, boolean exact) {
+
+        State next(LocalDateTime modifiedAt) {
+
+            if (modifiedAt == null) {
+                return new State(version + 1, lastModifiedAt, false);
+            }
+
+            if (lastModifiedAt == null) {
+                return new State(version + 1, modifiedAt, version == 0);
+            }
+
+            boolean inLaterSecond = modifiedAt.truncatedTo(ChronoUnit.SECONDS)
+                    .isAfter(lastModifiedAt.truncatedTo(ChronoUnit.SECONDS));
+            LocalDateTime latest = modifiedAt.isAfter(lastModifiedAt) ? modifiedAt : lastModifiedAt;
+            return new State(version + 1, latest, inLaterSecond);
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Stores every distinct event name once as UTF-8 bytes and references it by an {@code int} code. Codes are handed
+ * out by a single writer; readers decode without locking.
+ */
+class EventNameDictionary {
+
+    static final int NO_NAME = -1;
+
+    private static final int PAGE_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile byte[][] pages = {new byte[PAGE_SIZE]};
+    private int pageOffset;
+
+    private volatile long[] positions = new long[INITIAL_CAPACITY];
+    private volatile int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    int encode(String name) {
+
+        if (name == null) {
+            return NO_NAME;
+        }
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int hash = Arrays.hashCode(bytes);
+        hash ^= hash >>> 16;
+
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int code = table[slot] - 1;
+            if (code == NO_NAME) {
+                int newCode = this.add(bytes, hash);
+                table[slot] = newCode + 1;
+                if (size * 2 > table.length) {
+                    this.rehash();
+                }
+                return newCode;
+            }
+
+            if (hashes[code] == hash && this.matches(code, bytes)) {
+                return code;
+            }
+        }
+    }
+
+    String decode(int code) {
+
+        if (code == NO_NAME) {
+            return null;
+        }
+
+        long position = positions[code];
+        byte[] page = pages[(int) (position >>> 32)];
+        return new String(page, (int) position, lengths[code], StandardCharsets.UTF_8);
+    }
+
+    private int add(byte[] bytes, int hash) {
+        int code = size;
+        if (code == positions.length) {
+            hashes = Arrays.copyOf(hashes, code * 2);
+            lengths = Arrays.copyOf(lengths, code * 2);
+            positions = Arrays.copyOf(positions, code * 2);
+        }
+
+        hashes[code] = hash;
+        lengths[code] = bytes.length;
+        positions[code] = this.write(bytes);
+        size = code + 1;
+        return code;
+    }
+
+    /**
+     * Names longer than a page get a page of their own.
+     */
+    private long write(byte[] bytes) {
+        byte[][] pages = this.pages;
+        if (pageOffset + bytes.length > pages[pages.length - 1].length) {
+            pages = Arrays.copyOf(pages, pages.length + 1);
+            pages[pages.length - 1] = new byte[Math.max(PAGE_SIZE, bytes.length)];
+            pageOffset = 0;
+        }
+
+        int pageIndex = pages.length - 1;
+        System.arraycopy(bytes, 0, pages[pageIndex], pageOffset, bytes.length);
+        long position = ((long) pageIndex << 32) | pageOffset;
+        pageOffset += bytes.length;
+
+        this.pages = pages;
+        return position;
+    }
+
+    private boolean matches(int code, byte[] bytes) {
+
+        if (lengths[code] != bytes.length) {
+            return false;
+        }
+
+        long position = positions[code];
+        byte[] page = pages[(int) (position >>> 32)];
+        int offset = (int) position;
+        return Arrays.equals(page, offset, offset + bytes.length, bytes, 0, bytes.length);
+    }
+
+    private void rehash() {
+        int[] grownTable = new int[table.length * 2];
+        int mask = grownTable.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = hashes[code] & mask;
+            while (grownTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            grownTable[slot] = code + 1;
+        }
+        table = grownTable;
+    }
+
+}
@@ -1,33 +1,165 @@
 package dev.agitrubard.datetime.repository.impl;
 
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
 import dev.agitrubard.datetime.model.entity.EventEntity;
 import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
+/**
+ * In-memory {@link EventRepository} engine, used by default or with {@code event.repository.engine=memory}.
+ */
 @Repository
+@ConditionalOnProperty(name = "event.repository.engine", havingValue = "memory", matchIfMissing = true)
 class EventRepositoryImpl implements EventRepository {
 
-    private final List<EventEntity> events = new ArrayList<>();
+    private final Map<Long, EventEntity> eventsById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, EventEntity> eventsInIdOrder = new ConcurrentSkipListMap<>();
+    private final EventDateTimeIndex dateTimeIndex = new EventDateTimeIndex();
 
+    private final EventModificationStamp modificationStamp = new EventModificationStamp();
+    private final ReentrantLock insertLock = new ReentrantLock();
+
+    private final CoarseClock coarseClock;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    EventRepositoryImpl(CoarseClock coarseClock, TimeOrderedIdGenerator timeOrderedIdGenerator) {
+        this.coarseClock = coarseClock;
+        this.timeOrderedIdGenerator = timeOrderedIdGenerator;
+    }
+
+    @Override
     public List<EventEntity> findAll() {
-        return events;
+        return List.copyOf(eventsInIdOrder.values());
     }
 
+    @Override
+    public List<EventEntity> findAllAfterId(Long afterId, int limit) {
+
+        Map<Long, EventEntity> eventsAfterId = afterId != null
+                ? eventsInIdOrder.tailMap(afterId, false)
+                : eventsInIdOrder;
+
+        return eventsAfterId.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Stream<EventEntity> streamAll() {
+        return eventsInIdOrder.values().stream();
+    }
+
+    @Override
     public Optional<EventEntity> findById(Long id) {
-        return events.stream()
-                .filter(eventEntity -> eventEntity.getId().equals(id))
-                .findFirst();
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(eventsById.get(id));
+    }
+
+    @Override
+    public List<EventEntity> findAllByDateTimeBetween(LocalDateTime from, LocalDateTime to) {
+        return this.findAllByIds(dateTimeIndex.findIdsBetween(from, to));
+    }
+
+    @Override
+    public List<EventEntity> findAllByDate(LocalDate date) {
+        return this.findAllByIds(dateTimeIndex.findIdsByDate(date));
+    }
+
+    private List<EventEntity> findAllByIds(List<Long> ids) {
+        return ids.stream()
+                .map(eventsById::get)
+                .toList();
     }
 
+    @Override
     public void save(EventEntity eventEntity) {
-        eventEntity.setId(events.size() + 1L);
-        eventEntity.setCreatedAt(LocalDateTime.now());
-        events.add(eventEntity);
+        this.saveAll(List.of(eventEntity));
+    }
+
+    @Override
+    public void saveAll(List<EventEntity> eventEntities) {
+        LocalDateTime createdAt = coarseClock.localDateTime();
+
+        // IDs are taken and inserted under one lock, so a reader paging by ID never sees an ID before a lower one,
+        // and no other writer's event lands inside the batch.
+        insertLock.lock();
+        try {
+            for (EventEntity eventEntity : eventEntities) {
+                eventEntity.setCreatedAt(createdAt);
+                eventEntity.setId(timeOrderedIdGenerator.nextId());
+                eventsById.put(eventEntity.getId(), eventEntity);
+                eventsInIdOrder.put(eventEntity.getId(), eventEntity);
+            }
+        } finally {
+            insertLock.unlock();
+        }
+
+        for (EventEntity eventEntity : eventEntities) {
+            dateTimeIndex.add(eventEntity);
+            modificationStamp.modified(eventEntity.getModifiedAt());
+        }
+    }
+
+    /**
+     * Replaces the event with a published copy, so lock-free readers never see it half published.
+     */
+    @Override
+    public void publish(Long id) {
+
+        EventEntity eventEntity = eventsById.get(id);
+        if (eventEntity == null || eventEntity.isPublished()) {
+            return;
+        }
+
+        EventEntity publishedEventEntity = published(eventEntity, coarseClock.localDateTime());
+        if (eventsById.replace(id, eventEntity, publishedEventEntity)) {
+            eventsInIdOrder.put(id, publishedEventEntity);
+            modificationStamp.modified(publishedEventEntity.getModifiedAt());
+        }
+    }
+
+    private static EventEntity published(EventEntity eventEntity, LocalDateTime publishedAt) {
+        EventEntity publishedEventEntity = new EventEntity(
+                eventEntity.getName(),
+                eventEntity.getDate(),
+                eventEntity.getTime(),
+                eventEntity.getPublishAt(),
+                true
+        );
+        publishedEventEntity.setId(eventEntity.getId());
+        publishedEventEntity.setCreatedAt(eventEntity.getCreatedAt());
+        publishedEventEntity.setPublishedAt(publishedAt);
+        return publishedEventEntity;
+    }
+
+    @Override
+    public long version() {
+        return modificationStamp.version();
+    }
+
+    @Override
+    public LocalDateTime lastModifiedAt() {
+        return modificationStamp.lastModifiedAt();
+    }
+
+    @Override
+    public boolean isLastModifiedAtExact() {
+        return modificationStamp.isLastModifiedAtExact();
     }
 
 }
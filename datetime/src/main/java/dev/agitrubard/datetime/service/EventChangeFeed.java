@@ -0,0 +1,22 @@
+package dev.agitrubard.datetime.service;
+
+import dev.agitrubard.datetime.model.response.EventChangeResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface EventChangeFeed {
+
+    /**
+     * Returns the sequence of the latest change, or {@code 0} when nothing has changed yet.
+     */
+    long lastSequence();
+
+    /**
+     * Returns up to {@code limit} changes with a sequence greater than {@code afterSequence}, waiting up to
+     * {@code timeout} for the first one. A gap before or inside the result means changes were missed, because only the
+     * latest ones are retained.
+     */
+    List<EventChangeResponse> findAllAfter(long afterSequence, int limit, Duration timeout) throws InterruptedException;
+
+}
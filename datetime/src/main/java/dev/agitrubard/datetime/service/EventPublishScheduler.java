@@ -0,0 +1,9 @@
+package dev.agitrubard.datetime.service;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+
+public interface EventPublishScheduler {
+
+    void schedule(EventEntity eventEntity);
+
+}
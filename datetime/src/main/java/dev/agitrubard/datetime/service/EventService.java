@@ -1,16 +1,42 @@
 package dev.agitrubard.datetime.service;
 
+import dev.agitrubard.datetime.model.enums.EventBulkFormat;
 import dev.agitrubard.datetime.model.request.EventCreateRequest;
+import dev.agitrubard.datetime.model.response.EventBulkCreateResponse;
+import dev.agitrubard.datetime.model.response.EventPageResponse;
 import dev.agitrubard.datetime.model.response.EventResponse;
+import dev.agitrubard.datetime.model.response.EventVersionResponse;
 
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EventService {
 
     List<EventResponse> findAll();
 
+    EventPageResponse findAll(String cursor, int size);
+
+    Stream<EventResponse> streamAll();
+
     EventResponse findById(Long id);
 
+    /**
+     * Returns the version of the whole event list. Read it before the events, so that the events are at least as
+     * recent as the version.
+     */
+    EventVersionResponse findVersion();
+
+    EventVersionResponse findVersionById(Long id);
+
+    List<EventResponse> findAllBetween(LocalDateTime from, LocalDateTime to);
+
+    List<EventResponse> findAllByDate(LocalDate date);
+
     void create(EventCreateRequest createRequest);
 
+    EventBulkCreateResponse createAll(InputStream inputStream, EventBulkFormat format);
+
 }
@@ -0,0 +1,102 @@
+package dev.agitrubard.datetime.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.agitrubard.datetime.model.enums.EventBulkFormat;
+import dev.agitrubard.datetime.model.request.EventCreateRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads {@link EventCreateRequest}s one by one from a JSON array or an NDJSON stream. An item that cannot be bound is
+ * reported and skipped; a syntax error ends a JSON array, but only skips the line in NDJSON.
+ */
+@Component
+class EventBulkReader {
+
+    private final ObjectMapper objectMapper;
+
+    EventBulkReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    interface ItemHandler {
+
+        void onItem(int index, EventCreateRequest createRequest);
+
+        void onError(int index, String message);
+
+    }
+
+    void read(InputStream inputStream, EventBulkFormat format, ItemHandler itemHandler) {
+        try {
+            switch (format) {
+                case JSON_ARRAY -> this.readJsonArray(inputStream, itemHandler);
+                case NDJSON -> this.readNdjson(inputStream, itemHandler);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void readJsonArray(InputStream inputStream, ItemHandler itemHandler) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+
+            int index = 0;
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    itemHandler.onError(index, "Request body must be a JSON array");
+                    return;
+                }
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode item = parser.readValueAsTree();
+                    this.bind(index++, item, itemHandler);
+                }
+            } catch (JsonProcessingException exception) {
+                itemHandler.onError(index, "Malformed JSON: " + exception.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readNdjson(InputStream inputStream, ItemHandler itemHandler) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+            int index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    JsonNode item = objectMapper.readTree(line);
+                    this.bind(index, item, itemHandler);
+                } catch (JsonProcessingException exception) {
+                    itemHandler.onError(index, "Malformed JSON: " + exception.getOriginalMessage());
+                }
+                index++;
+            }
+        }
+    }
+
+    private void bind(int index, JsonNode item, ItemHandler itemHandler) {
+        try {
+            EventCreateRequest createRequest = objectMapper.treeToValue(item, EventCreateRequest.class);
+            itemHandler.onItem(index, createRequest);
+        } catch (JsonProcessingException exception) {
+            itemHandler.onError(index, "Invalid event: " + exception.getOriginalMessage());
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package dev.agitrubard.datetime.service.impl;
+
+import dev.agitrubard.datetime.model.enums.EventChangeType;
+import dev.agitrubard.datetime.model.response.EventChangeResponse;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import dev.agitrubard.datetime.service.EventChangeFeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the latest event changes in a ring buffer of {@code event.changes.capacity} slots. Appending never waits for
+ * readers, and a reader skips slots overwritten while it reads them.
+ */
+@Component
+class EventChangeFeedImpl implements EventChangeFeed {
+
+    private final AtomicReferenceArray<EventChangeResponse> changes;
+    private final int capacity;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition appended = appendLock.newCondition();
+
+    private volatile long lastSequence;
+
+    EventChangeFeedImpl(@Value("${event.changes.capacity:4096}") int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change feed capacity must be positive");
+        }
+
+        this.changes = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+    }
+
+    void append(EventChangeType type, EventResponse eventResponse) {
+        this.appendAll(type, List.of(eventResponse));
+    }
+
+    void appendAll(EventChangeType type, List<EventResponse> eventResponses) {
+
+        if (eventResponses.isEmpty()) {
+            return;
+        }
+
+        appendLock.lock();
+        try {
+            long sequence = lastSequence;
+            for (EventResponse eventResponse : eventResponses) {
+                sequence++;
+                changes.set(this.slotOf(sequence), new EventChangeResponse(sequence, type, eventResponse));
+            }
+            lastSequence = sequence;
+            appended.signalAll();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public List<EventChangeResponse> findAllAfter(long afterSequence, int limit, Duration timeout)
+            throws InterruptedException {
+
+        if (afterSequence < 0 || afterSequence > lastSequence) {
+            // Not a sequence of this feed, the caller sees a gap before the first change and resets.
+            afterSequence = 0;
+        }
+
+        if (lastSequence == afterSequence) {
+            this.awaitChangeAfter(afterSequence, timeout);
+        }
+
+        long last = lastSequence;
+        long first = Math.max(afterSequence + 1, last - capacity + 1);
+
+        List<EventChangeResponse> eventChangeResponses = new ArrayList<>((int) Math.min(limit, last - first + 1));
+        for (long sequence = first; sequence <= last && eventChangeResponses.size() < limit; sequence++) {
+            EventChangeResponse eventChangeResponse = changes.get(this.slotOf(sequence));
+            if (eventChangeResponse.getSequence() == sequence) {
+                eventChangeResponses.add(eventChangeResponse);
+            }
+        }
+        return eventChangeResponses;
+    }
+
+    private void awaitChangeAfter(long sequence, Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+
+        appendLock.lockInterruptibly();
+        try {
+            while (lastSequence == sequence && remainingNanos > 0) {
+                remainingNanos = appended.awaitNanos(remainingNanos);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+}
@@ -0,0 +1,140 @@
+package dev.agitrubard.datetime.service.impl;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.model.enums.EventChangeType;
+import dev.agitrubard.datetime.model.mapper.EventMapper;
+import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.service.EventPublishScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Publishes scheduled events when their {@code publishAt} elapses, from a {@link DelayQueue} instead of polling the
+ * repository.
+ */
+@Component
+class EventPublishSchedulerImpl implements EventPublishScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublishSchedulerImpl.class);
+
+    private final DelayQueue<ScheduledPublication> publications = new DelayQueue<>();
+    private final Thread publisherThread = Thread.ofPlatform()
+            .name("event-publisher")
+            .daemon()
+            .unstarted(this::publishDuePublications);
+
+    private final EventRepository eventRepository;
+    private final EventResponseCache eventResponseCache;
+    private final EventChangeFeedImpl eventChangeFeed;
+    private final EventMapper eventMapper;
+    private final Timer publishLagTimer;
+    private final Counter publishedCounter;
+    private final Clock clock;
+
+    public EventPublishSchedulerImpl(EventRepository eventRepository,
+                                     EventResponseCache eventResponseCache,
+                                     EventChangeFeedImpl eventChangeFeed,
+                                     EventMapper eventMapper,
+                                     MeterRegistry meterRegistry,
+                                     Clock clock) {
+
+        this.eventRepository = eventRepository;
+        this.eventResponseCache = eventResponseCache;
+        this.eventChangeFeed = eventChangeFeed;
+        this.eventMapper = eventMapper;
+        this.clock = clock;
+
+        Gauge.builder("event.publish.pending", publications, DelayQueue::size)
+                .description("Scheduled event publications that are not due yet")
+                .register(meterRegistry);
+        this.publishLagTimer = Timer.builder("event.publish.lag")
+                .description("Delay between an event's publishAt and its actual publication")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("event.publish.published")
+                .description("Events published by the scheduler")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        publisherThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        publisherThread.interrupt();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void scheduleStoredEvents() {
+        try (Stream<EventEntity> eventEntities = eventRepository.streamAll()) {
+            eventEntities.forEach(this::schedule);
+        }
+    }
+
+    @Override
+    public void schedule(EventEntity eventEntity) {
+
+        if (eventEntity.isPublished() || eventEntity.getPublishAt() == null) {
+            return;
+        }
+
+        long publishAtMillis = eventEntity.getPublishAt()
+                .atZone(clock.getZone())
+                .toInstant()
+                .toEpochMilli();
+
+        publications.put(new ScheduledPublication(eventEntity.getId(), publishAtMillis, clock));
+    }
+
+    private void publishDuePublications() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                ScheduledPublication publication = publications.take();
+                eventRepository.publish(publication.eventId());
+                eventResponseCache.invalidate(publication.eventId());
+                eventRepository.findById(publication.eventId())
+                        .map(eventMapper::toResponse)
+                        .ifPresent(eventResponse -> eventChangeFeed.append(EventChangeType.PUBLISHED, eventResponse));
+
+                long lagMillis = Math.max(0L, clock.millis() - publication.publishAtMillis());
+                publishLagTimer.record(lagMillis, TimeUnit.MILLISECONDS);
+                publishedCounter.increment();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException exception) {
+                log.error("Event could not be published", exception);
+            }
+        }
+    }
+
+    private record ScheduledPublication(Long eventId, long publishAtMillis, Clock clock) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(publishAtMillis - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(publishAtMillis, ((ScheduledPublication) other).publishAtMillis);
+        }
+
+    }
+
+}
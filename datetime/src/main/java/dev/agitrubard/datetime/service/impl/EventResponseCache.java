@@ -0,0 +1,48 @@
+package dev.agitrubard.datetime.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of ready {@link EventResponse}s by event ID, invalidated whenever an event is created or published.
+ */
+@Component
+class EventResponseCache {
+
+    private final Cache<Long, EventResponse> eventResponses;
+
+    EventResponseCache(@Value("${event.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${event.cache.time-to-live:5m}") Duration timeToLive,
+                       MeterRegistry meterRegistry) {
+
+        this.eventResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, eventResponses, "event.responses");
+    }
+
+    /**
+     * Nothing is cached when the loader returns an empty result.
+     */
+    Optional<EventResponse> get(Long id, Function<Long, Optional<EventResponse>> loader) {
+        EventResponse eventResponse = eventResponses.get(id, eventId -> loader.apply(eventId).orElse(null));
+        return Optional.ofNullable(eventResponse);
+    }
+
+    void invalidate(Long id) {
+        eventResponses.invalidate(id);
+    }
+
+}
@@ -1,76 +1,297 @@
 package dev.agitrubard.datetime.service.impl;
 
 import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.model.mapper.EventMapper;
+import dev.agitrubard.datetime.model.enums.EventBulkFormat;
+import dev.agitrubard.datetime.model.enums.EventChangeType;
 import dev.agitrubard.datetime.model.request.EventCreateRequest;
+import dev.agitrubard.datetime.model.response.EventBulkCreateResponse;
+import dev.agitrubard.datetime.model.response.EventPageResponse;
 import dev.agitrubard.datetime.model.response.EventResponse;
+import dev.agitrubard.datetime.model.response.EventVersionResponse;
 import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.service.EventPublishScheduler;
 import dev.agitrubard.datetime.service.EventService;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 class EventServiceImpl implements EventService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String CURSOR_PREFIX = "id:";
+    private static final int BULK_BATCH_SIZE = 1000;
+    private static final int BULK_MAX_REPORTED_ERRORS = 1000;
+
     private final EventRepository eventRepository;
+    private final EventPublishScheduler eventPublishScheduler;
+    private final EventMapper eventMapper;
+    private final EventResponseCache eventResponseCache;
+    private final EventBulkReader eventBulkReader;
+    private final EventChangeFeedImpl eventChangeFeed;
+    private final Clock clock;
+
+    public EventServiceImpl(EventRepository eventRepository,
+                            EventPublishScheduler eventPublishScheduler,
+                            EventMapper eventMapper,
+                            EventResponseCache eventResponseCache,
+                            EventBulkReader eventBulkReader,
+                            EventChangeFeedImpl eventChangeFeed,
+                            Clock clock) {
 
-    public EventServiceImpl(EventRepository eventRepository) {
         this.eventRepository = eventRepository;
+        this.eventPublishScheduler = eventPublishScheduler;
+        this.eventMapper = eventMapper;
+        this.eventResponseCache = eventResponseCache;
+        this.eventBulkReader = eventBulkReader;
+        this.eventChangeFeed = eventChangeFeed;
+        this.clock = clock;
     }
 
     @Override
     public List<EventResponse> findAll() {
         List<EventEntity> eventEntities = eventRepository.findAll();
-        return eventEntities.stream()
-                .map(eventEntity -> new EventResponse(
-                                eventEntity.getId(),
-                                eventEntity.getName(),
-                                eventEntity.getDate(),
-                                eventEntity.getTime(),
-                                eventEntity.getPublishAt(),
-                                eventEntity.isPublished(),
-                                eventEntity.getCreatedAt()
-                        )
-                )
-                .collect(Collectors.toList());
+        return eventMapper.toResponses(eventEntities);
+    }
+
+    @Override
+    public EventPageResponse findAll(String cursor, int size) {
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Long afterId = Optional.ofNullable(cursor)
+                .map(EventServiceImpl::decodeCursor)
+                .orElse(null);
+
+        List<EventEntity> eventEntities = eventRepository.findAllAfterId(afterId, size + 1);
+        boolean hasNextPage = eventEntities.size() > size;
+        if (hasNextPage) {
+            eventEntities = eventEntities.subList(0, size);
+        }
+
+        List<EventResponse> eventResponses = eventMapper.toResponses(eventEntities);
+
+        String nextCursor = hasNextPage ? encodeCursor(eventEntities.getLast().getId()) : null;
+        return new EventPageResponse(eventResponses, nextCursor);
+    }
+
+    @Override
+    public Stream<EventResponse> streamAll() {
+        return eventRepository.streamAll()
+                .map(eventMapper::toResponse);
     }
 
     @Override
     public EventResponse findById(Long id) {
+        return eventResponseCache
+                .get(id, eventId -> eventRepository.findById(eventId).map(eventMapper::toResponse))
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+    }
+
+    @Override
+    public EventVersionResponse findVersion() {
+        LocalDateTime lastModifiedAt = eventRepository.lastModifiedAt();
+        long version = eventRepository.version();
+
+        Instant lastModifiedInstant = this.toInstant(lastModifiedAt);
+        String tag = version + "-" + (lastModifiedInstant != null ? lastModifiedInstant.toEpochMilli() : 0L);
+        if (!eventRepository.isLastModifiedAtExact()) {
+            return new EventVersionResponse(tag, null);
+        }
 
+        return new EventVersionResponse(tag, lastModifiedInstant);
+    }
+
+    @Override
+    public EventVersionResponse findVersionById(Long id) {
         EventEntity eventEntity = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
-        return new EventResponse(
-                eventEntity.getId(),
-                eventEntity.getName(),
-                eventEntity.getDate(),
-                eventEntity.getTime(),
-                eventEntity.getPublishAt(),
-                eventEntity.isPublished(),
-                eventEntity.getCreatedAt()
-        );
+        Instant modifiedAt = this.toInstant(eventEntity.getModifiedAt());
+        String tag = id + "-" + (eventEntity.isPublished() ? "published" : "created") + "-"
+                + (modifiedAt != null ? modifiedAt.getEpochSecond() + "." + modifiedAt.getNano() : "0");
+
+        // Last-Modified has a resolution of one second, it cannot tell a publication apart from a creation in the
+        // same second.
+        if (eventEntity.isPublished() && isSameSecond(eventEntity.getCreatedAt(), eventEntity.getPublishedAt())) {
+            return new EventVersionResponse(tag, null);
+        }
+
+        return new EventVersionResponse(tag, modifiedAt);
+    }
+
+    private static boolean isSameSecond(LocalDateTime dateTime, LocalDateTime otherDateTime) {
+        return dateTime != null && otherDateTime != null
+                && dateTime.truncatedTo(ChronoUnit.SECONDS).equals(otherDateTime.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(clock.getZone()).toInstant() : null;
+    }
+
+    @Override
+    public List<EventResponse> findAllBetween(LocalDateTime from, LocalDateTime to) {
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From must not be after to");
+        }
+
+        List<EventEntity> eventEntities = eventRepository.findAllByDateTimeBetween(from, to);
+        return eventMapper.toResponses(eventEntities);
+    }
+
+    @Override
+    public List<EventResponse> findAllByDate(LocalDate date) {
+        List<EventEntity> eventEntities = eventRepository.findAllByDate(date);
+        return eventMapper.toResponses(eventEntities);
     }
 
     @Override
     public void create(EventCreateRequest createRequest) {
 
+        EventEntity eventEntity = toEntity(createRequest, LocalDateTime.now(clock));
+
+        eventRepository.save(eventEntity);
+        eventResponseCache.invalidate(eventEntity.getId());
+        eventChangeFeed.append(EventChangeType.CREATED, eventMapper.toResponse(eventEntity));
+        eventPublishScheduler.schedule(eventEntity);
+    }
+
+    @Override
+    public EventBulkCreateResponse createAll(InputStream inputStream, EventBulkFormat format) {
+        EventBulkCreation bulkCreation = new EventBulkCreation();
+        eventBulkReader.read(inputStream, format, bulkCreation);
+        bulkCreation.flush();
+        return bulkCreation.toResponse();
+    }
+
+    private static EventEntity toEntity(EventCreateRequest createRequest, LocalDateTime now) {
+
         boolean isPublished = Optional.ofNullable(createRequest.getPublishAt())
-                .map(publishAt -> publishAt.isBefore(LocalDateTime.now()))
+                .map(publishAt -> publishAt.isBefore(now))
                 .orElse(true);
 
-        EventEntity eventEntity = new EventEntity(
+        return new EventEntity(
                 createRequest.getName(),
                 createRequest.getDate(),
                 createRequest.getTime(),
                 createRequest.getPublishAt(),
                 isPublished
         );
+    }
+
+    private static Optional<String> validate(EventCreateRequest createRequest) {
+
+        if (createRequest == null) {
+            return Optional.of("Event must not be null");
+        }
+
+        if (createRequest.getName() == null || createRequest.getName().isBlank()) {
+            return Optional.of("Name must not be blank");
+        }
+
+        if (createRequest.getDate() == null) {
+            return Optional.of("Date must not be null");
+        }
+
+        if (createRequest.getTime() == null) {
+            return Optional.of("Time must not be null");
+        }
+
+        return Optional.empty();
+    }
+
+    private static String encodeCursor(Long id) {
+        byte[] cursor = (CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor);
+    }
+
+    private static Long decodeCursor(String cursor) {
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decodedCursor.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            return Long.valueOf(decodedCursor.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid cursor", exception);
+        }
+    }
+
+    private class EventBulkCreation implements EventBulkReader.ItemHandler {
+
+        private final List<EventCreateRequest> batch = new ArrayList<>(BULK_BATCH_SIZE);
+        private final List<EventBulkCreateResponse.Error> errors = new ArrayList<>();
+        private int createdCount;
+        private int failedCount;
+
+        @Override
+        public void onItem(int index, EventCreateRequest createRequest) {
+
+            Optional<String> validationError = validate(createRequest);
+            if (validationError.isPresent()) {
+                this.onError(index, validationError.get());
+                return;
+            }
+
+            batch.add(createRequest);
+            if (batch.size() == BULK_BATCH_SIZE) {
+                this.flush();
+            }
+        }
+
+        @Override
+        public void onError(int index, String message) {
+            failedCount++;
+            if (errors.size() < BULK_MAX_REPORTED_ERRORS) {
+                errors.add(new EventBulkCreateResponse.Error(index, message));
+            }
+        }
+
+        void flush() {
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<EventEntity> eventEntities = new ArrayList<>(batch.size());
+            for (EventCreateRequest createRequest : batch) {
+                eventEntities.add(toEntity(createRequest, now));
+            }
+
+            eventRepository.saveAll(eventEntities);
+            for (EventEntity eventEntity : eventEntities) {
+                eventResponseCache.invalidate(eventEntity.getId());
+            }
+            eventChangeFeed.appendAll(EventChangeType.CREATED, eventMapper.toResponses(eventEntities));
+            for (EventEntity eventEntity : eventEntities) {
+                eventPublishScheduler.schedule(eventEntity);
+            }
+
+            createdCount += eventEntities.size();
+            batch.clear();
+        }
+
+        EventBulkCreateResponse toResponse() {
+            return new EventBulkCreateResponse(createdCount, failedCount, errors);
+        }
 
-        eventRepository.save(eventEntity);
     }
 
 }
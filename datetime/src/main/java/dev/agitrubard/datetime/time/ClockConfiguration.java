@@ -0,0 +1,30 @@
+package dev.agitrubard.datetime.time;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Inject {@link Clock} wherever the exact current time matters, and {@link CoarseClock} for cheap timestamps.
+ */
+@Configuration
+class ClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    CoarseClock coarseClock(Clock clock,
+                            @Value("${event.clock.coarse-resolution:1ms}") Duration resolution) {
+
+        return new CoarseClock(clock, resolution);
+    }
+
+}
@@ -0,0 +1,113 @@
+package dev.agitrubard.datetime.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Clock} that reads its source clock once per tick of a background thread instead of on every call.
+ * The time lags behind the source clock by up to the resolution, so it suits timestamps, not exact decisions.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+    private final boolean owner;
+
+    private volatile Tick zonedTick;
+
+    public CoarseClock(Clock clock, Duration resolution) {
+        this(new Ticker(clock, resolution), clock.getZone(), true);
+    }
+
+    private CoarseClock(Ticker ticker, ZoneId zone, boolean owner) {
+        this.ticker = ticker;
+        this.zone = zone;
+        this.owner = owner;
+    }
+
+    @Override
+    public Instant instant() {
+        return ticker.tick.instant();
+    }
+
+    @Override
+    public long millis() {
+        return ticker.tick.instant().toEpochMilli();
+    }
+
+    /**
+     * Returns the current date-time as of the last tick.
+     */
+    public LocalDateTime localDateTime() {
+
+        Tick tick = ticker.tick;
+        if (zone.equals(ticker.clock.getZone())) {
+            return tick.localDateTime();
+        }
+
+        Tick cached = zonedTick;
+        if (cached == null || cached.instant() != tick.instant()) {
+            cached = new Tick(tick.instant(), LocalDateTime.ofInstant(tick.instant(), zone));
+            zonedTick = cached;
+        }
+        return cached.localDateTime();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        if (this.zone.equals(zone)) {
+            return this;
+        }
+        return new CoarseClock(ticker, zone, false);
+    }
+
+    /**
+     * Stops the ticker. Views returned by {@link #withZone(ZoneId)} do not own it and ignore this call.
+     */
+    @Override
+    public void close() {
+        if (owner) {
+            ticker.executor.shutdownNow();
+        }
+    }
+
+    private static final class Ticker {
+
+        private final Clock clock;
+        private final ScheduledExecutorService executor;
+
+        private volatile Tick tick;
+
+        private Ticker(Clock clock, Duration resolution) {
+            this.clock = clock;
+            this.tick();
+
+            this.executor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("coarse-clock").daemon().factory()
+            );
+            long resolutionNanos = resolution.toNanos();
+            this.executor.scheduleAtFixedRate(this::tick, resolutionNanos, resolutionNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void tick() {
+            Instant instant = clock.instant();
+            tick = new Tick(instant, LocalDateTime.ofInstant(instant, clock.getZone()));
+        }
+
+    }
+
+    private record Tick(Instant instant, LocalDateTime localDateTime) {
+    }
+
+}
@@ -0,0 +1,84 @@
+package dev.agitrubard.datetime.benchmark;
+
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the {@code createdAt} timestamp per create: {@code LocalDateTime.now()} as the repositories
+ * called it before, {@code LocalDateTime.now(clock)} with the injected precise {@link Clock}, and
+ * {@link CoarseClock#localDateTime()}. Runs with 8 threads to resemble concurrent requests.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate per operation:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.datetime.benchmark.ClockBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ClockBenchmark {
+
+    private Clock clock;
+    private CoarseClock coarseClock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clock = Clock.systemDefaultZone();
+        coarseClock = new CoarseClock(clock, Duration.ofMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coarseClock.close();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeNow() {
+        return LocalDateTime.now();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeNowWithClock() {
+        return LocalDateTime.now(clock);
+    }
+
+    @Benchmark
+    public LocalDateTime coarseClockLocalDateTime() {
+        return coarseClock.localDateTime();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ClockBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
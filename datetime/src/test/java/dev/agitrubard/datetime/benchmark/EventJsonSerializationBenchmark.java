@@ -0,0 +1,102 @@
+package dev.agitrubard.datetime.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serializing {@link EventResponse}s with the default {@link JavaTimeModule} serializers against the
+ * {@code IsoDateTimeWriter} based serializers {@link EventResponse} is annotated with.
+ *
+ * <p>The default path is measured by turning off {@link MapperFeature#USE_ANNOTATIONS}, which leaves
+ * {@link JavaTimeModule} in charge of every date and time field.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventJsonSerializationBenchmark {
+
+    private static final int EVENT_COUNT = 10_000;
+
+    private List<EventResponse> eventResponses;
+    private ObjectWriter javaTimeModuleWriter;
+    private ObjectWriter isoDateTimeWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventResponses = new ArrayList<>(EVENT_COUNT);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0, 0, 123_456_789);
+        for (long id = 1; id <= EVENT_COUNT; id++) {
+            eventResponses.add(new EventResponse(
+                    id,
+                    "Event " + id,
+                    LocalDate.of(2025, 9, 21).plusDays(id % 365),
+                    LocalTime.of((int) (id % 24), (int) (id % 60)),
+                    createdAt.plusDays(id % 30),
+                    id % 2 == 0,
+                    createdAt.plusNanos(id * 1_000_003L)
+            ));
+        }
+
+        javaTimeModuleWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .build()
+                .writer();
+
+        isoDateTimeWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+    }
+
+    @Benchmark
+    public byte[] serializeWithJavaTimeModule() throws JsonProcessingException {
+        return javaTimeModuleWriter.writeValueAsBytes(eventResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeWithIsoDateTimeWriter() throws JsonProcessingException {
+        return isoDateTimeWriter.writeValueAsBytes(eventResponses);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventJsonSerializationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
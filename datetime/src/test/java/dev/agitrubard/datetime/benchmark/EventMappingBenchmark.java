@@ -0,0 +1,135 @@
+package dev.agitrubard.datetime.benchmark;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.model.mapper.EventMapper;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the hand-written {@code new EventResponse(...)} stream mapping that {@code EventServiceImpl} used before
+ * with {@link EventMapper}, over 1M events and over a small set of hot events read again and again.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate per operation:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.datetime.benchmark.EventMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMappingBenchmark {
+
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int HOT_EVENT_COUNT = 1_024;
+    private static final int HOT_READ_COUNT = 100_000;
+
+    private List<EventEntity> eventEntities;
+    private List<EventEntity> hotEventEntities;
+    private EventMapper eventMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventEntities = new ArrayList<>(EVENT_COUNT);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (long id = 1; id <= EVENT_COUNT; id++) {
+            EventEntity eventEntity = new EventEntity(
+                    "Event " + id,
+                    LocalDate.of(2025, 9, 21).plusDays(id % 365),
+                    LocalTime.of((int) (id % 24), 0),
+                    createdAt.plusDays(id % 30),
+                    id % 2 == 0
+            );
+            eventEntity.setId(id);
+            eventEntity.setCreatedAt(createdAt.plusSeconds(id));
+            eventEntities.add(eventEntity);
+        }
+
+        hotEventEntities = new ArrayList<>(HOT_READ_COUNT);
+        for (int read = 0; read < HOT_READ_COUNT; read++) {
+            int hotIndex = ThreadLocalRandom.current().nextInt(HOT_EVENT_COUNT);
+            hotEventEntities.add(eventEntities.get(hotIndex));
+        }
+
+        eventMapper = new EventMapper();
+    }
+
+    @Benchmark
+    public List<EventResponse> mapAllWithConstructor() {
+        return eventEntities.stream()
+                .map(eventEntity -> new EventResponse(
+                                eventEntity.getId(),
+                                eventEntity.getName(),
+                                eventEntity.getDate(),
+                                eventEntity.getTime(),
+                                eventEntity.getPublishAt(),
+                                eventEntity.isPublished(),
+                                eventEntity.getCreatedAt()
+                        )
+                )
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<EventResponse> mapAllWithMapper() {
+        return eventMapper.toResponses(eventEntities);
+    }
+
+    @Benchmark
+    public void mapHotEventsWithConstructor(Blackhole blackhole) {
+        for (EventEntity eventEntity : hotEventEntities) {
+            blackhole.consume(new EventResponse(
+                    eventEntity.getId(),
+                    eventEntity.getName(),
+                    eventEntity.getDate(),
+                    eventEntity.getTime(),
+                    eventEntity.getPublishAt(),
+                    eventEntity.isPublished(),
+                    eventEntity.getCreatedAt()
+            ));
+        }
+    }
+
+    @Benchmark
+    public void mapHotEventsWithMapper(Blackhole blackhole) {
+        for (EventEntity eventEntity : hotEventEntities) {
+            blackhole.consume(eventMapper.toResponse(eventEntity));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventMappingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
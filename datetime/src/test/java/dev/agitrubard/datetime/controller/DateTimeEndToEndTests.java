@@ -1,7 +1,9 @@
 package dev.agitrubard.datetime.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import dev.agitrubard.datetime.model.entity.EventEntity;
 import dev.agitrubard.datetime.repository.EventRepository;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,12 +13,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -133,4 +145,506 @@ class DateTimeEndToEndTests {
         Assertions.assertNotNull(lastEventEntity.getCreatedAt());
     }
 
+    @Test
+    void givenEventCreateRequestWithNearFuturePublishAt_whenPublishAtElapses_thenEventIsPublished() throws Exception {
+        // Given
+        LocalDateTime publishAt = LocalDateTime.now().plusSeconds(1);
+        String eventCreateRequest = """
+                {
+                    "name": "Scheduled Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "%s"
+                }
+                """.formatted(publishAt);
+
+        // Then
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                .post("/event")
+                .content(eventCreateRequest)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockHttpServletRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Verify
+        EventEntity scheduledEventEntity = eventRepository.findAll().getLast();
+        Assertions.assertEquals("Scheduled Event", scheduledEventEntity.getName());
+        Assertions.assertFalse(scheduledEventEntity.isPublished());
+
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!eventRepository.findById(scheduledEventEntity.getId()).orElseThrow().isPublished()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+
+        Assertions.assertTrue(eventRepository.findById(scheduledEventEntity.getId()).orElseThrow().isPublished());
+        Assertions.assertFalse(LocalDateTime.now().isBefore(publishAt));
+    }
+
+    @Test
+    void givenCachedScheduledEvent_whenEventPublished_thenFindByIdReturnsPublishedEvent() throws Exception {
+        // Given
+        String eventCreateRequest = """
+                {
+                    "name": "Cached Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "%s"
+                }
+                """.formatted(LocalDateTime.now().plusSeconds(1));
+
+        MockHttpServletRequestBuilder createRequestBuilder = MockMvcRequestBuilders
+                .post("/event")
+                .content(eventCreateRequest)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(createRequestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Long id = eventRepository.findAll().getLast().getId();
+
+        // Then
+        for (int read = 0; read < 3; read++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Cached Event"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.published").value(false));
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!eventRepository.findById(id).orElseThrow().isPublished()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+
+        // Verify
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.published").value(true));
+    }
+
+    @Test
+    void givenEventWithFractionalTimes_whenEventFoundById_thenDatesAndTimesAreWrittenAsIsoStrings() throws Exception {
+        // Given
+        String eventCreateRequest = """
+                {
+                    "name": "Iso Event",
+                    "date": "2025-09-21",
+                    "time": "10:00:30.5",
+                    "publishAt": "2021-01-01T09:00"
+                }
+                """;
+
+        MockHttpServletRequestBuilder createRequestBuilder = MockMvcRequestBuilders
+                .post("/event")
+                .content(eventCreateRequest)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(createRequestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        EventEntity eventEntity = eventRepository.findAll().getLast();
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", eventEntity.getId()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.date").value("2025-09-21"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.time").value("10:00:30.5"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.publishAt").value("2021-01-01T09:00:00"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdAt")
+                        .value(eventEntity.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+    }
+
+    @Test
+    void givenEventsOnDifferentDates_whenEventsQueriedByDateAndRange_thenReturnMatchingEventsInOrder() throws Exception {
+        // Given
+        List<String> eventCreateRequests = List.of(
+                """
+                        {"name": "Range Event 3", "date": "2999-03-02", "time": "09:00"}
+                        """,
+                """
+                        {"name": "Range Event 2", "date": "2999-03-01", "time": "18:30"}
+                        """,
+                """
+                        {"name": "Range Event 1", "date": "2999-03-01", "time": "08:00"}
+                        """,
+                """
+                        {"name": "Range Event 4", "date": "2999-03-03", "time": "00:00"}
+                        """
+        );
+
+        for (String eventCreateRequest : eventCreateRequests) {
+            MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                    .post("/event")
+                    .content(eventCreateRequest)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(mockHttpServletRequestBuilder)
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        // Then
+        MockHttpServletRequestBuilder findAllByDateRequestBuilder = MockMvcRequestBuilders
+                .get("/events/date/2999-03-01");
+
+        mockMvc.perform(findAllByDateRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Range Event 1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].name").value("Range Event 2"));
+
+        MockHttpServletRequestBuilder findAllBetweenRequestBuilder = MockMvcRequestBuilders
+                .get("/events/between")
+                .param("from", "2999-03-01T12:00")
+                .param("to", "2999-03-03T00:00");
+
+        mockMvc.perform(findAllBetweenRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Range Event 2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].name").value("Range Event 3"));
+    }
+
+    @Test
+    void givenCreatedEvents_whenEventsPagedWithCursor_thenEveryEventIsReturnedOnceInIdOrder() throws Exception {
+        // Given
+        for (int index = 0; index < 5; index++) {
+            String eventCreateRequest = """
+                    {
+                        "name": "Paged Event %d",
+                        "date": "2025-09-21",
+                        "time": "10:00"
+                    }
+                    """.formatted(index);
+
+            MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                    .post("/event")
+                    .content(eventCreateRequest)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(mockHttpServletRequestBuilder)
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        // Then
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                    .get("/events/page")
+                    .param("size", "2");
+            if (cursor != null) {
+                mockHttpServletRequestBuilder.param("cursor", cursor);
+            }
+
+            String response = mockMvc.perform(mockHttpServletRequestBuilder)
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            List<Number> ids = JsonPath.read(response, "$.content[*].id");
+            ids.forEach(id -> pagedIds.add(id.longValue()));
+            cursor = JsonPath.read(response, "$.nextCursor");
+        } while (cursor != null);
+
+        // Verify
+        List<Long> eventIds = eventRepository.findAll().stream()
+                .map(EventEntity::getId)
+                .toList();
+        Assertions.assertEquals(eventIds, pagedIds);
+    }
+
+    @Test
+    void givenCreatedEvents_whenEventsStreamed_thenEveryEventIsWrittenAsNdjsonLine() throws Exception {
+        // Given
+        String eventCreateRequest = """
+                {
+                    "name": "Streamed Event",
+                    "date": "2025-09-21",
+                    "time": "10:00"
+                }
+                """;
+
+        MockHttpServletRequestBuilder createRequestBuilder = MockMvcRequestBuilders
+                .post("/event")
+                .content(eventCreateRequest)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(createRequestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Then
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/events/stream"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Verify
+        List<String> lines = response.lines().toList();
+        Assertions.assertEquals(eventRepository.findAll().size(), lines.size());
+        Assertions.assertEquals("Streamed Event", JsonPath.read(lines.getLast(), "$.name"));
+    }
+
+    @Test
+    void givenJsonArrayWithInvalidItems_whenEventsCreatedInBulk_thenValidEventsAreCreatedAndErrorsReported() throws Exception {
+        // Given
+        int eventCountBefore = eventRepository.findAll().size();
+        String eventBulkCreateRequest = """
+                [
+                    {"name": "Bulk Event 1", "date": "2025-09-21", "time": "10:00"},
+                    {"name": "", "date": "2025-09-21", "time": "10:00"},
+                    {"name": "Bulk Event 3", "date": "not-a-date", "time": "10:00"},
+                    {"name": "Bulk Event 4", "date": "2025-09-22", "time": "11:00", "publishAt": "3079-10-21T00:00"}
+                ]
+                """;
+
+        // Then
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                .post("/events/bulk")
+                .content(eventBulkCreateRequest)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockHttpServletRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failedCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].index").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].index").value(2));
+
+        // Verify
+        List<EventEntity> eventEntities = eventRepository.findAll();
+        Assertions.assertEquals(eventCountBefore + 2, eventEntities.size());
+
+        EventEntity lastEventEntity = eventEntities.getLast();
+        Assertions.assertEquals("Bulk Event 4", lastEventEntity.getName());
+        Assertions.assertFalse(lastEventEntity.isPublished());
+        Assertions.assertTrue(eventEntities.get(eventEntities.size() - 2).getId() < lastEventEntity.getId());
+    }
+
+    @Test
+    void givenNdjsonWithMalformedLine_whenEventsCreatedInBulk_thenOnlyMalformedLineIsRejected() throws Exception {
+        // Given
+        int eventCountBefore = eventRepository.findAll().size();
+        String eventBulkCreateRequest = """
+                {"name": "Ndjson Event 1", "date": "2025-09-21", "time": "10:00"}
+                {"name": "Ndjson Event 2", "date": "2025-09-21",
+                {"name": "Ndjson Event 3", "date": "2025-09-21", "time": "12:00"}
+                """;
+
+        // Then
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                .post("/events/bulk")
+                .content(eventBulkCreateRequest)
+                .contentType(MediaType.APPLICATION_NDJSON);
+
+        mockMvc.perform(mockHttpServletRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failedCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].index").value(1));
+
+        // Verify
+        List<EventEntity> eventEntities = eventRepository.findAll();
+        Assertions.assertEquals(eventCountBefore + 2, eventEntities.size());
+        Assertions.assertEquals("Ndjson Event 3", eventEntities.getLast().getName());
+    }
+
+    @Test
+    void givenChangeSubscriber_whenEventCreatedAndPublished_thenBothChangesArePushedAndResumable() throws Exception {
+        // Given
+        MvcResult subscription = mockMvc.perform(MockMvcRequestBuilders.get("/events/changes"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String eventCreateRequest = """
+                {
+                    "name": "Changed Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "%s"
+                }
+                """.formatted(LocalDateTime.now().plusSeconds(1));
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/event")
+                        .content(eventCreateRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Long id = eventRepository.findAll().getLast().getId();
+        String changes = this.awaitContent(subscription, "event:PUBLISHED");
+
+        // Verify
+        List<String> dataLines = changes.lines()
+                .filter(line -> line.startsWith("data:"))
+                .map(line -> line.substring("data:".length()))
+                .toList();
+        Assertions.assertEquals(2, dataLines.size());
+
+        Assertions.assertEquals("CREATED", JsonPath.read(dataLines.get(0), "$.type"));
+        Assertions.assertEquals(id, ((Number) JsonPath.read(dataLines.get(0), "$.event.id")).longValue());
+        Assertions.assertFalse(JsonPath.<Boolean>read(dataLines.get(0), "$.event.published"));
+
+        Assertions.assertEquals("PUBLISHED", JsonPath.read(dataLines.get(1), "$.type"));
+        Assertions.assertEquals("Changed Event", JsonPath.read(dataLines.get(1), "$.event.name"));
+        Assertions.assertTrue(JsonPath.<Boolean>read(dataLines.get(1), "$.event.published"));
+
+        long createdSequence = ((Number) JsonPath.read(dataLines.get(0), "$.sequence")).longValue();
+        long publishedSequence = ((Number) JsonPath.read(dataLines.get(1), "$.sequence")).longValue();
+        Assertions.assertTrue(changes.contains("id:" + createdSequence));
+
+        MvcResult resumedSubscription = mockMvc.perform(MockMvcRequestBuilders.get("/events/changes")
+                        .header("Last-Event-ID", createdSequence))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String resumedChanges = this.awaitContent(resumedSubscription, "id:" + publishedSequence);
+        Assertions.assertFalse(resumedChanges.contains("id:" + createdSequence + "\n"));
+        Assertions.assertFalse(resumedChanges.contains("event:reset"));
+
+        MvcResult restartedSubscription = mockMvc.perform(MockMvcRequestBuilders.get("/events/changes")
+                        .header("Last-Event-ID", publishedSequence + 1_000))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String restartedChanges = this.awaitContent(restartedSubscription, "id:" + publishedSequence);
+        Assertions.assertTrue(restartedChanges.startsWith("event:reset"));
+    }
+
+    private String awaitContent(MvcResult mvcResult, String expectedContent) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        String content = mvcResult.getResponse().getContentAsString();
+        while (!content.contains(expectedContent) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            content = mvcResult.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    void givenUnchangedEvent_whenRequestedWithConditionalHeaders_thenNotModifiedUntilEventIsPublished() throws Exception {
+        // Given
+        String eventCreateRequest = """
+                {
+                    "name": "Conditional Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "%s"
+                }
+                """.formatted(LocalDateTime.now().plusSeconds(1));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/event")
+                        .content(eventCreateRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Long id = eventRepository.findAll().getLast().getId();
+
+        MvcResult eventResult = mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists("ETag"))
+                .andExpect(MockMvcResultMatchers.header().exists("Last-Modified"))
+                .andReturn();
+        String eventETag = eventResult.getResponse().getHeader("ETag");
+        String eventLastModified = eventResult.getResponse().getHeader("Last-Modified");
+
+        String eventsETag = mockMvc.perform(MockMvcRequestBuilders.get("/events"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id).header("If-None-Match", eventETag))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id).header("If-Modified-Since", eventLastModified))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get("/events").header("If-None-Match", eventsETag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!eventRepository.findById(id).orElseThrow().isPublished()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+
+        // Verify
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id).header("If-None-Match", eventETag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.not(eventETag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.published").value(true));
+        mockMvc.perform(MockMvcRequestBuilders.get("/event/{id}", id).header("If-Modified-Since", eventLastModified))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/events").header("If-None-Match", eventsETag))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void givenConcurrentEventCreateRequests_whenEventsCreated_thenEveryEventHasUniqueId() throws Exception {
+        // Given
+        int eventCount = 200;
+        int eventCountBefore = eventRepository.findAll().size();
+
+        // Then
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> futures = IntStream.range(0, eventCount)
+                    .mapToObj(index -> executorService.submit(() -> {
+                        String eventCreateRequest = """
+                                {
+                                    "name": "Concurrent Event %d",
+                                    "date": "2025-09-21",
+                                    "time": "10:00"
+                                }
+                                """.formatted(index);
+
+                        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                                .post("/event")
+                                .content(eventCreateRequest)
+                                .contentType(MediaType.APPLICATION_JSON);
+
+                        mockMvc.perform(mockHttpServletRequestBuilder)
+                                .andExpect(MockMvcResultMatchers.status().isOk());
+                        return null;
+                    }))
+                    .collect(Collectors.toList());
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Verify
+        List<EventEntity> eventEntities = eventRepository.findAll();
+        Assertions.assertEquals(eventCountBefore + eventCount, eventEntities.size());
+
+        long distinctIdCount = eventEntities.stream()
+                .map(EventEntity::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .count();
+        Assertions.assertEquals(eventEntities.size(), distinctIdCount);
+
+        eventEntities.forEach(eventEntity -> Assertions.assertEquals(
+                eventEntity.getId(), eventRepository.findById(eventEntity.getId()).orElseThrow().getId()
+        ));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package dev.agitrubard.datetime.controller;
+
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.repository.EventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@SpringBootTest(properties = "spring.main.allow-bean-definition-overriding=true")
+@AutoConfigureMockMvc
+class DateTimeFixedClockEndToEndTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @TestConfiguration
+    static class FixedClockConfiguration {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2025-09-21T10:00:00Z"), ZoneOffset.UTC);
+        }
+
+    }
+
+    @Test
+    void givenFixedClock_whenEventsCreatedAroundNow_thenPublishStateAndCreatedAtFollowTheClock() throws Exception {
+        // Given
+        String pastEventCreateRequest = """
+                {
+                    "name": "Past Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "2025-09-21T09:59:59.999"
+                }
+                """;
+        String futureEventCreateRequest = """
+                {
+                    "name": "Future Event",
+                    "date": "2025-09-21",
+                    "time": "10:00",
+                    "publishAt": "2025-09-21T10:00:00.001"
+                }
+                """;
+
+        // Then
+        for (String eventCreateRequest : List.of(pastEventCreateRequest, futureEventCreateRequest)) {
+            MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                    .post("/event")
+                    .content(eventCreateRequest)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(mockHttpServletRequestBuilder)
+                    .andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        // Verify
+        List<EventEntity> eventEntities = eventRepository.findAll();
+
+        EventEntity pastEventEntity = eventEntities.get(eventEntities.size() - 2);
+        Assertions.assertEquals("Past Event", pastEventEntity.getName());
+        Assertions.assertTrue(pastEventEntity.isPublished());
+        Assertions.assertEquals("2025-09-21T10:00", pastEventEntity.getCreatedAt().toString());
+
+        EventEntity futureEventEntity = eventEntities.getLast();
+        Assertions.assertEquals("Future Event", futureEventEntity.getName());
+        Assertions.assertFalse(futureEventEntity.isPublished());
+        Assertions.assertEquals("2025-09-21T10:00", futureEventEntity.getCreatedAt().toString());
+    }
+
+}
@@ -0,0 +1,110 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class EventColumnarRepositoryImplTest {
+
+    private static final CoarseClock COARSE_CLOCK = new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(1));
+
+    @Test
+    void givenEventsSpanningSeveralChunks_whenRead_thenEveryFieldIsMaterialized() {
+        // Given
+        EventColumnarRepositoryImpl eventColumnarRepository = new EventColumnarRepositoryImpl(COARSE_CLOCK, new TimeOrderedIdGenerator());
+        int eventCount = 150_000;
+
+        List<EventEntity> eventEntities = IntStream.range(0, eventCount)
+                .mapToObj(index -> new EventEntity(
+                        "Event " + (index % 1_000) + " ✓",
+                        LocalDate.of(2025, 9, 21).plusDays(index % 10),
+                        LocalTime.of(index % 24, 30, 15, 123_456_789),
+                        LocalDateTime.of(2025, 9, 20, 8, 0).plusNanos(index),
+                        index % 3 == 0
+                ))
+                .toList();
+        eventColumnarRepository.saveAll(eventEntities);
+        EventEntity lastEventEntity = new EventEntity(null, null, null, null, false);
+        eventColumnarRepository.save(lastEventEntity);
+        eventColumnarRepository.publish(eventEntities.get(1).getId());
+
+        // Then
+        List<EventEntity> foundEventEntities = eventColumnarRepository.findAll();
+
+        // Verify
+        Assertions.assertEquals(eventCount + 1, foundEventEntities.size());
+        for (int index = 0; index < eventCount; index++) {
+            EventEntity eventEntity = eventEntities.get(index);
+            EventEntity foundEventEntity = foundEventEntities.get(index);
+            Assertions.assertEquals(eventEntity.getId(), foundEventEntity.getId());
+            Assertions.assertEquals(eventEntity.getName(), foundEventEntity.getName());
+            Assertions.assertEquals(eventEntity.getDate(), foundEventEntity.getDate());
+            Assertions.assertEquals(eventEntity.getTime(), foundEventEntity.getTime());
+            Assertions.assertEquals(eventEntity.getPublishAt(), foundEventEntity.getPublishAt());
+            Assertions.assertEquals(eventEntity.getCreatedAt(), foundEventEntity.getCreatedAt());
+            Assertions.assertEquals(index % 3 == 0 || index == 1, foundEventEntity.isPublished());
+        }
+
+        EventEntity emptyEventEntity = foundEventEntities.get(eventCount);
+        Assertions.assertNull(emptyEventEntity.getName());
+        Assertions.assertNull(emptyEventEntity.getDate());
+        Assertions.assertNull(emptyEventEntity.getTime());
+        Assertions.assertNull(emptyEventEntity.getPublishAt());
+        Assertions.assertTrue(eventColumnarRepository.findById(lastEventEntity.getId() + 1).isEmpty());
+
+        EventEntity middleEventEntity = eventEntities.get(eventCount / 2);
+        Assertions.assertEquals(
+                middleEventEntity.getName(),
+                eventColumnarRepository.findById(middleEventEntity.getId()).orElseThrow().getName()
+        );
+        Assertions.assertEquals(
+                eventEntities.get(eventCount / 2 + 1).getId(),
+                eventColumnarRepository.findAllAfterId(middleEventEntity.getId(), 1).getFirst().getId()
+        );
+    }
+
+    @Test
+    void givenSameEventsInBothEngines_whenQueriedByDateTime_thenResultsMatch() {
+        // Given
+        EventColumnarRepositoryImpl eventColumnarRepository = new EventColumnarRepositoryImpl(COARSE_CLOCK, new TimeOrderedIdGenerator());
+        EventRepositoryImpl eventRepository = new EventRepositoryImpl(COARSE_CLOCK, new TimeOrderedIdGenerator());
+
+        IntStream.range(0, 500).forEach(index -> {
+            LocalDate date = LocalDate.of(2025, 9, 21).plusDays(index % 7);
+            LocalTime time = index % 5 == 0 ? null : LocalTime.of(index % 24, index % 60);
+            eventColumnarRepository.save(new EventEntity("Event " + index, date, time, null, false));
+            eventRepository.save(new EventEntity("Event " + index, date, time, null, false));
+        });
+
+        LocalDateTime from = LocalDateTime.of(2025, 9, 22, 6, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 9, 24, 0, 0);
+
+        // Then
+        List<String> columnarNames = eventColumnarRepository.findAllByDateTimeBetween(from, to).stream()
+                .map(EventEntity::getName)
+                .toList();
+        List<String> names = eventRepository.findAllByDateTimeBetween(from, to).stream()
+                .map(EventEntity::getName)
+                .toList();
+
+        // Verify
+        Assertions.assertFalse(names.isEmpty());
+        Assertions.assertEquals(names, columnarNames);
+        LocalDate date = LocalDate.of(2025, 9, 25);
+        Assertions.assertEquals(
+                eventRepository.findAllByDate(date).stream().map(EventEntity::getName).toList(),
+                eventColumnarRepository.findAllByDate(date).stream().map(EventEntity::getName).toList()
+        );
+    }
+
+}
@@ -0,0 +1,122 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+class EventLogRepositoryImplTest {
+
+    private static final CoarseClock COARSE_CLOCK = new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(1));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenSavedAndPublishedEvents_whenRepositoryReopened_thenEventsAreRecovered() throws IOException {
+        // Given
+        Path path = directory.resolve("events.log");
+
+        EventLogRepositoryImpl eventLogRepository = this.open(path);
+        EventEntity firstEventEntity = this.event("Event 1", LocalDate.of(2025, 9, 21), LocalTime.of(10, 0));
+        EventEntity secondEventEntity = this.event("Event 2", LocalDate.of(2025, 9, 22), LocalTime.of(11, 30));
+        eventLogRepository.save(firstEventEntity);
+        eventLogRepository.saveAll(List.of(secondEventEntity));
+        eventLogRepository.publish(firstEventEntity.getId());
+        LocalDateTime publishedAt = eventLogRepository.findById(firstEventEntity.getId())
+                .map(EventEntity::getPublishedAt)
+                .orElseThrow();
+        eventLogRepository.close();
+
+        // Then
+        EventLogRepositoryImpl reopenedEventLogRepository = this.open(path);
+        List<EventEntity> eventEntities = reopenedEventLogRepository.findAll();
+
+        // Verify
+        Assertions.assertEquals(2, eventEntities.size());
+        Assertions.assertEquals(firstEventEntity.getId(), eventEntities.get(0).getId());
+        Assertions.assertEquals("Event 1", eventEntities.get(0).getName());
+        Assertions.assertTrue(eventEntities.get(0).isPublished());
+        Assertions.assertEquals(firstEventEntity.getCreatedAt(), eventEntities.get(0).getCreatedAt());
+        Assertions.assertEquals(publishedAt, eventEntities.get(0).getPublishedAt());
+        Assertions.assertEquals(publishedAt, reopenedEventLogRepository.lastModifiedAt());
+        Assertions.assertEquals("Event 2", eventEntities.get(1).getName());
+        Assertions.assertFalse(eventEntities.get(1).isPublished());
+        Assertions.assertEquals(
+                List.of(secondEventEntity.getId()),
+                reopenedEventLogRepository.findAllByDate(LocalDate.of(2025, 9, 22)).stream()
+                        .map(EventEntity::getId)
+                        .toList()
+        );
+
+        EventEntity thirdEventEntity = this.event("Event 3", LocalDate.of(2025, 9, 23), LocalTime.NOON);
+        reopenedEventLogRepository.save(thirdEventEntity);
+        Assertions.assertTrue(thirdEventEntity.getId() > secondEventEntity.getId());
+        reopenedEventLogRepository.close();
+    }
+
+    @Test
+    void givenTornRecordAtTheEndOfTheLog_whenRepositoryReopened_thenOnlyCompleteRecordsAreRecovered() throws IOException {
+        // Given
+        Path path = directory.resolve("events.log");
+
+        EventLogRepositoryImpl eventLogRepository = this.open(path);
+        EventEntity eventEntity = this.event("Event 1", LocalDate.of(2025, 9, 21), LocalTime.of(10, 0));
+        eventLogRepository.save(eventEntity);
+        eventLogRepository.close();
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            ByteBuffer tornRecordHeader = ByteBuffer.allocate(8)
+                    .putInt(64)
+                    .putInt(0xCAFEBABE)
+                    .flip();
+            fileChannel.write(tornRecordHeader, this.endOfFirstRecord(eventEntity));
+        }
+
+        // Then
+        EventLogRepositoryImpl reopenedEventLogRepository = this.open(path);
+
+        // Verify
+        Assertions.assertEquals(1, reopenedEventLogRepository.findAll().size());
+        Assertions.assertTrue(reopenedEventLogRepository.findById(eventEntity.getId()).isPresent());
+
+        EventEntity secondEventEntity = this.event("Event 2", LocalDate.of(2025, 9, 22), LocalTime.NOON);
+        reopenedEventLogRepository.save(secondEventEntity);
+        reopenedEventLogRepository.close();
+
+        EventLogRepositoryImpl recoveredEventLogRepository = this.open(path);
+        Assertions.assertEquals(2, recoveredEventLogRepository.findAll().size());
+        Assertions.assertEquals("Event 2", recoveredEventLogRepository.findById(secondEventEntity.getId())
+                .map(EventEntity::getName)
+                .orElseThrow());
+        recoveredEventLogRepository.close();
+    }
+
+    private EventLogRepositoryImpl open(Path path) {
+        return new EventLogRepositoryImpl(path, EventLogFsyncPolicy.ALWAYS, Duration.ofMillis(100), COARSE_CLOCK,
+                new TimeOrderedIdGenerator());
+    }
+
+    private EventEntity event(String name, LocalDate date, LocalTime time) {
+        return new EventEntity(name, date, time, LocalDateTime.of(date, time).plusDays(1), false);
+    }
+
+    private long endOfFirstRecord(EventEntity eventEntity) {
+        return 8L + EventLogRecord.encode(eventEntity).remaining();
+    }
+
+}
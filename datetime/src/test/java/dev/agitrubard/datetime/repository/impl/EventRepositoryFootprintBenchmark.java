@@ -0,0 +1,125 @@
+package dev.agitrubard.datetime.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.datetime.model.entity.EventEntity;
+import dev.agitrubard.datetime.repository.EventRepository;
+import dev.agitrubard.datetime.time.CoarseClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the in-memory {@link EventRepositoryImpl} with the columnar {@link EventColumnarRepositoryImpl} over 1M
+ * events: first the retained heap and object count of each store, measured with JOL, then the cost of materializing
+ * a page of events with {@link EventRepository#findAllAfterId(Long, int)} and of a date query.
+ *
+ * <p>Lives next to the engines because they are package-private:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.datetime.repository.impl.EventRepositoryFootprintBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class EventRepositoryFootprintBenchmark {
+
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 9, 21);
+    private static final CoarseClock COARSE_CLOCK = new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(1));
+
+    @Param({"memory", "columnar"})
+    private String engine;
+
+    private EventRepository eventRepository;
+    private Long middleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventRepository = fill(engine);
+        middleId = eventRepository.findAllAfterId(null, EVENT_COUNT / 2).getLast().getId();
+    }
+
+    @Benchmark
+    public List<EventEntity> findPage() {
+        return eventRepository.findAllAfterId(middleId, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<EventEntity> findAllByDate() {
+        return eventRepository.findAllByDate(FIRST_DATE.plusDays(100));
+    }
+
+    private static EventRepository fill(String engine) {
+        EventRepository eventRepository = switch (engine) {
+            case "memory" -> new EventRepositoryImpl(COARSE_CLOCK, new TimeOrderedIdGenerator());
+            case "columnar" -> new EventColumnarRepositoryImpl(COARSE_CLOCK, new TimeOrderedIdGenerator());
+            default -> throw new IllegalArgumentException("Unknown engine: " + engine);
+        };
+
+        List<EventEntity> batch = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < EVENT_COUNT; index++) {
+            LocalDate date = FIRST_DATE.plusDays(index % 365);
+            LocalTime time = LocalTime.of(index % 24, index % 60);
+            batch.add(new EventEntity("Event " + index, date, time, LocalDateTime.of(date, time), index % 2 == 0));
+
+            if (batch.size() == BATCH_SIZE) {
+                eventRepository.saveAll(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        return eventRepository;
+    }
+
+    private static void printFootprint(String engine) {
+        GraphLayout graphLayout = GraphLayout.parseInstance(fill(engine));
+        System.out.printf(
+                "%-8s  %,14d bytes  %6.1f bytes/event  %,11d objects  %4.1f objects/event%n",
+                engine,
+                graphLayout.totalSize(),
+                (double) graphLayout.totalSize() / EVENT_COUNT,
+                graphLayout.totalCount(),
+                (double) graphLayout.totalCount() / EVENT_COUNT
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        printFootprint("memory");
+        printFootprint("columnar");
+
+        Options options = new OptionsBuilder()
+                .include(EventRepositoryFootprintBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
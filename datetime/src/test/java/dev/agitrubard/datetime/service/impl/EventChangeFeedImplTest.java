@@ -0,0 +1,76 @@
+package dev.agitrubard.datetime.service.impl;
+
+import dev.agitrubard.datetime.model.enums.EventChangeType;
+import dev.agitrubard.datetime.model.response.EventChangeResponse;
+import dev.agitrubard.datetime.model.response.EventResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+class EventChangeFeedImplTest {
+
+    @Test
+    void givenMoreChangesThanCapacity_whenReadFromTheStart_thenOnlyRetainedChangesAreReturnedWithAGap()
+            throws InterruptedException {
+
+        // Given
+        EventChangeFeedImpl eventChangeFeed = new EventChangeFeedImpl(4);
+        eventChangeFeed.appendAll(EventChangeType.CREATED, LongStream.rangeClosed(1, 10).mapToObj(this::event).toList());
+
+        // Then
+        List<EventChangeResponse> eventChangeResponses = eventChangeFeed.findAllAfter(0, 100, Duration.ZERO);
+
+        // Verify
+        Assertions.assertEquals(10, eventChangeFeed.lastSequence());
+        Assertions.assertEquals(
+                List.of(7L, 8L, 9L, 10L),
+                eventChangeResponses.stream().map(EventChangeResponse::getSequence).toList()
+        );
+        Assertions.assertEquals(
+                List.of(7L, 8L, 9L, 10L),
+                eventChangeResponses.stream().map(change -> change.getEvent().getId()).toList()
+        );
+        Assertions.assertEquals(
+                List.of(9L),
+                eventChangeFeed.findAllAfter(8, 1, Duration.ZERO).stream().map(EventChangeResponse::getSequence).toList()
+        );
+    }
+
+    @Test
+    void givenNoNewChanges_whenChangeAppendedWhileWaiting_thenWaitingReaderReceivesIt() throws Exception {
+        // Given
+        EventChangeFeedImpl eventChangeFeed = new EventChangeFeedImpl(16);
+        eventChangeFeed.append(EventChangeType.CREATED, this.event(1));
+
+        CompletableFuture<List<EventChangeResponse>> waitingRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return eventChangeFeed.findAllAfter(1, 10, Duration.ofSeconds(10));
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        // Then
+        Thread.sleep(100);
+        eventChangeFeed.append(EventChangeType.PUBLISHED, this.event(1));
+
+        // Verify
+        List<EventChangeResponse> eventChangeResponses = waitingRead.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, eventChangeResponses.size());
+        Assertions.assertEquals(2L, eventChangeResponses.getFirst().getSequence());
+        Assertions.assertEquals(EventChangeType.PUBLISHED, eventChangeResponses.getFirst().getType());
+        Assertions.assertTrue(eventChangeFeed.findAllAfter(2, 10, Duration.ofMillis(10)).isEmpty());
+    }
+
+    private EventResponse event(long id) {
+        return new EventResponse(id, "Event " + id, LocalDate.of(2025, 9, 21), LocalTime.NOON, null, false, null);
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.agitrubard.datetime.time;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+class CoarseClockTest {
+
+    @Test
+    void givenCoarseClock_whenWithZone_thenViewSharesTickInGivenZone() {
+
+        // Given
+        Instant instant = Instant.parse("2024-09-21T09:52:20Z");
+        Clock clock = Clock.fixed(instant, ZoneOffset.UTC);
+        ZoneId zone = ZoneId.of("Europe/Istanbul");
+
+        try (CoarseClock coarseClock = new CoarseClock(clock, Duration.ofHours(1))) {
+
+            // Then
+            CoarseClock zonedClock = coarseClock.withZone(zone);
+
+            // Verify
+            Assertions.assertSame(coarseClock, coarseClock.withZone(ZoneOffset.UTC));
+            Assertions.assertEquals(zone, zonedClock.getZone());
+            Assertions.assertEquals(coarseClock.instant(), zonedClock.instant());
+            Assertions.assertEquals(LocalDateTime.of(2024, 9, 21, 12, 52, 20), zonedClock.localDateTime());
+            Assertions.assertEquals(LocalDateTime.of(2024, 9, 21, 9, 52, 20), coarseClock.localDateTime());
+
+            zonedClock.close();
+            Assertions.assertEquals(instant, coarseClock.instant());
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package dev.agitrubard.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies, in nanoseconds, and failure count recorded by a single client, merged once all clients are done.
+ */
+final class ClientResult {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long failures;
+
+    void add(long latencyNanos, boolean succeeded) {
+
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+
+        latencies[size++] = latencyNanos;
+        if (!succeeded) {
+            failures++;
+        }
+    }
+
+    void addAll(ClientResult other) {
+
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(size + other.size, latencies.length * 2));
+        }
+
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        failures += other.failures;
+    }
+
+    long[] latencies() {
+        return Arrays.copyOf(latencies, size);
+    }
+
+    long failures() {
+        return failures;
+    }
+
+}
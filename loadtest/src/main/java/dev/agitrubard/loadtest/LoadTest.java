@@ -0,0 +1,135 @@
+package dev.agitrubard.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator: a fixed number of clients, each on its own virtual thread, send the same request
+ * back to back, and the throughput and latency percentiles of the requests after the warm-up are printed.
+ *
+ * <pre>
+ * java -cp target/classes dev.agitrubard.loadtest.LoadTest \
+ *     --url=http://localhost:8080/api/v1/notifications/send \
+ *     --method=POST \
+ *     --body='{"to":"user@example.com","type":"EMAIL"}' \
+ *     --concurrency=400 \
+ *     --warmup=5s \
+ *     --duration=30s
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(options.url()))
+                .method(options.method(), options.body() != null
+                        ? HttpRequest.BodyPublishers.ofString(options.body())
+                        : HttpRequest.BodyPublishers.noBody())
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + options.warmup().toNanos();
+        long measureUntilNanos = measureFromNanos + options.duration().toNanos();
+
+        List<Future<ClientResult>> futures = new ArrayList<>(options.concurrency());
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < options.concurrency(); client++) {
+                futures.add(executorService.submit(
+                        () -> runClient(httpClient, httpRequest, measureFromNanos, measureUntilNanos)
+                ));
+            }
+        }
+
+        ClientResult result = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            result.addAll(future.get());
+        }
+
+        print(options, result);
+    }
+
+    private static ClientResult runClient(HttpClient httpClient,
+                                          HttpRequest httpRequest,
+                                          long measureFromNanos,
+                                          long measureUntilNanos) {
+
+        ClientResult result = new ClientResult();
+        while (true) {
+            long sentNanos = System.nanoTime();
+            if (sentNanos >= measureUntilNanos) {
+                return result;
+            }
+
+            boolean succeeded;
+            try {
+                HttpResponse<Void> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                succeeded = httpResponse.statusCode() < 400;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return result;
+            } catch (Exception exception) {
+                succeeded = false;
+            }
+
+            long receivedNanos = System.nanoTime();
+            if (sentNanos >= measureFromNanos && receivedNanos <= measureUntilNanos) {
+                result.add(receivedNanos - sentNanos, succeeded);
+            }
+        }
+    }
+
+    private static void print(LoadTestOptions options, ClientResult result) {
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+
+        double seconds = options.duration().toNanos() / 1_000_000_000.0;
+
+        System.out.printf(Locale.ROOT, "%s %s with %d clients for %s%n",
+                options.method(), options.url(), options.concurrency(), options.duration());
+        System.out.printf(Locale.ROOT, "requests:   %d (%d failed)%n", latencies.length, result.failures());
+        System.out.printf(Locale.ROOT, "throughput: %.1f req/s%n", latencies.length / seconds);
+        System.out.printf(Locale.ROOT, "latency:    p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                millis(percentile(latencies, 0.50)),
+                millis(percentile(latencies, 0.90)),
+                millis(percentile(latencies, 0.99)),
+                millis(latencies.length > 0 ? latencies[latencies.length - 1] : 0L));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+
+        if (sortedLatencies.length == 0) {
+            return 0L;
+        }
+
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.clamp(index, 0, sortedLatencies.length - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
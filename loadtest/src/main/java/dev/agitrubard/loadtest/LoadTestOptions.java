@@ -0,0 +1,64 @@
+package dev.agitrubard.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of {@link LoadTest}, given as {@code --name=value}. Durations accept the same short form as
+ * Spring Boot properties, such as {@code 500ms}, {@code 30s} or {@code 2m}.
+ */
+record LoadTestOptions(String url,
+                       String method,
+                       String body,
+                       int concurrency,
+                       Duration warmup,
+                       Duration duration) {
+
+    static LoadTestOptions parse(String[] args) {
+
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but was: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String url = values.get("url");
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required");
+        }
+
+        int concurrency = Integer.parseInt(values.getOrDefault("concurrency", "100"));
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("--concurrency must be positive");
+        }
+
+        return new LoadTestOptions(
+                url,
+                values.getOrDefault("method", "GET"),
+                values.get("body"),
+                concurrency,
+                parseDuration(values.getOrDefault("warmup", "5s")),
+                parseDuration(values.getOrDefault("duration", "30s"))
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+
+        throw new IllegalArgumentException("Unsupported duration: " + value);
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.agitrubard.factory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executor for password hashing, one thread per processor by default since hashing is CPU-bound.
+ */
+@Configuration
+class PasswordHashExecutorConfiguration {
+
+    @Bean
+    ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${password.hash.executor.size:0}") int size,
+            @Value("${password.hash.executor.queue-capacity:100}") int queueCapacity) {
+
+        int poolSize = size > 0 ? size : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(poolSize);
+        threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+        threadPoolTaskExecutor.setThreadNamePrefix("password-hash-");
+        return threadPoolTaskExecutor;
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.agitrubard.factory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executor that sends two-factor authentication codes, so a slow gateway never holds a request thread.
+ */
+@Configuration
+class TwoFactorAuthenticationExecutorConfiguration {
+
+    @Bean
+    ThreadPoolTaskExecutor twoFactorAuthenticationExecutor(
+            @Value("${two-factor-authentication.executor.core-size:8}") int coreSize,
+            @Value("${two-factor-authentication.executor.max-size:32}") int maxSize,
+            @Value("${two-factor-authentication.executor.queue-capacity:1000}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(coreSize);
+        threadPoolTaskExecutor.setMaxPoolSize(maxSize);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+        threadPoolTaskExecutor.setThreadNamePrefix("two-factor-authentication-");
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        return threadPoolTaskExecutor;
+    }
+
+}
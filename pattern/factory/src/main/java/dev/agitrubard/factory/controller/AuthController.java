@@ -1,24 +1,62 @@
 package dev.agitrubard.factory.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import dev.agitrubard.factory.filter.AccessTokenFilter;
+import dev.agitrubard.factory.model.entity.AccessTokenEntity;
 import dev.agitrubard.factory.model.request.LoginRequest;
 import dev.agitrubard.factory.model.request.RegisterRequest;
+import dev.agitrubard.factory.model.request.VerifyRequest;
+import dev.agitrubard.factory.model.response.LoginResponse;
+import dev.agitrubard.factory.model.response.RegisterBulkResponse;
+import dev.agitrubard.factory.service.AccessTokenService;
+import dev.agitrubard.factory.service.LoginRateLimiter;
 import dev.agitrubard.factory.service.LoginService;
 import dev.agitrubard.factory.service.RegisterService;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationChallengeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 class AuthController {
 
+    static final String CHALLENGE_ID_HEADER = "X-Challenge-Id";
+    static final String ACCESS_TOKEN_HEADER = "X-Access-Token";
+
     private final RegisterService registerService;
     private final LoginService loginService;
+    private final TwoFactorAuthenticationChallengeService twoFactorAuthenticationChallengeService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AccessTokenService accessTokenService;
+    private final ObjectMapper objectMapper;
+
+    public AuthController(RegisterService registerService,
+                          LoginService loginService,
+                          TwoFactorAuthenticationChallengeService twoFactorAuthenticationChallengeService,
+                          LoginRateLimiter loginRateLimiter,
+                          AccessTokenService accessTokenService,
+                          ObjectMapper objectMapper) {
 
-    public AuthController(RegisterService registerService, LoginService loginService) {
         this.registerService = registerService;
         this.loginService = loginService;
+        this.twoFactorAuthenticationChallengeService = twoFactorAuthenticationChallengeService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.accessTokenService = accessTokenService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/register")
@@ -26,9 +64,81 @@ class AuthController {
         return registerService.register(registerRequest);
     }
 
+    /**
+     * Answers with one result per row, flushed batch by batch while the rest of the body is still being read.
+     */
+    @PostMapping(value = "/register/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void registerAll(InputStream inputStream, HttpServletResponse httpServletResponse) throws IOException {
+
+        httpServletResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (SequenceWriter sequenceWriter = objectMapper.writerFor(RegisterBulkResponse.class)
+                .withRootValueSeparator("\n")
+                .writeValues(httpServletResponse.getOutputStream())) {
+
+            registerService.registerAll(inputStream, registerBulkResponses -> {
+                try {
+                    sequenceWriter.writeAll(registerBulkResponses);
+                    sequenceWriter.flush();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the challenge ID in {@code X-Challenge-Id} as soon as the code is on its way, or the access token in
+     * {@code X-Access-Token} for users without two-factor authentication.
+     */
     @PostMapping("/login")
-    public String login(@RequestBody LoginRequest loginRequest) {
-        return loginService.login(loginRequest);
+    public ResponseEntity<String> login(@RequestBody LoginRequest loginRequest, HttpServletRequest httpServletRequest) {
+
+        if (!loginRateLimiter.tryAcquire(loginRequest.username(), httpServletRequest.getRemoteAddr())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body("Too many login attempts, please try again later!");
+        }
+
+        LoginResponse loginResponse = loginService.login(loginRequest);
+        return toResponseEntity(loginResponse);
+    }
+
+    @PostMapping("/verify")
+    public ResponseEntity<String> verify(@RequestBody VerifyRequest verifyRequest) {
+        LoginResponse loginResponse = twoFactorAuthenticationChallengeService.verify(verifyRequest);
+        return toResponseEntity(loginResponse);
+    }
+
+    private static ResponseEntity<String> toResponseEntity(LoginResponse loginResponse) {
+
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok();
+
+        if (loginResponse.challengeId() != null) {
+            bodyBuilder.header(CHALLENGE_ID_HEADER, loginResponse.challengeId());
+        }
+
+        if (loginResponse.accessToken() != null) {
+            bodyBuilder.header(ACCESS_TOKEN_HEADER, loginResponse.accessToken());
+        }
+
+        return bodyBuilder.body(loginResponse.message());
+    }
+
+    /**
+     * Answers from the access token alone, without looking up the user.
+     */
+    @GetMapping("/me")
+    public String me(@RequestAttribute(AccessTokenFilter.ACCESS_TOKEN_ATTRIBUTE) AccessTokenEntity accessTokenEntity) {
+        return accessTokenEntity.getUsername();
+    }
+
+    @PostMapping("/logout")
+    public String logout(
+            @RequestAttribute(AccessTokenFilter.ACCESS_TOKEN_ATTRIBUTE) AccessTokenEntity accessTokenEntity) {
+
+        accessTokenService.revoke(accessTokenEntity);
+        return "Logout success!";
     }
 
 }
@@ -0,0 +1,64 @@
+package dev.agitrubard.factory.filter;
+
+import dev.agitrubard.factory.model.entity.AccessTokenEntity;
+import dev.agitrubard.factory.service.AccessTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lets requests to authenticated endpoints through only with a valid bearer token, exposed as the
+ * {@link #ACCESS_TOKEN_ATTRIBUTE} request attribute.
+ */
+@Component
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String ACCESS_TOKEN_ATTRIBUTE = "accessToken";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> AUTHENTICATED_PATHS = Set.of("/api/v1/auth/me", "/api/v1/auth/logout");
+
+    private final AccessTokenService accessTokenService;
+
+    public AccessTokenFilter(AccessTokenService accessTokenService) {
+        this.accessTokenService = accessTokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !AUTHENTICATED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Optional<AccessTokenEntity> accessTokenEntity = Optional
+                .ofNullable(request.getHeader(HttpHeaders.AUTHORIZATION))
+                .filter(authorization -> authorization.startsWith(BEARER_PREFIX))
+                .map(authorization -> authorization.substring(BEARER_PREFIX.length()))
+                .flatMap(accessTokenService::verify);
+
+        if (accessTokenEntity.isEmpty()) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Invalid or expired access token!");
+            return;
+        }
+
+        request.setAttribute(ACCESS_TOKEN_ATTRIBUTE, accessTokenEntity.get());
+        filterChain.doFilter(request, response);
+    }
+
+}
@@ -0,0 +1,33 @@
+package dev.agitrubard.factory.model.entity;
+
+import java.time.Instant;
+
+public class AccessTokenEntity {
+
+    private final String id;
+    private final String username;
+    private final Instant expiresAt;
+
+    public AccessTokenEntity(String id, String username, Instant expiresAt) {
+        this.id = id;
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+}
@@ -0,0 +1,48 @@
+package dev.agitrubard.factory.model.entity;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TwoFactorAuthenticationChallengeEntity {
+
+    private final String id;
+    private final String username;
+    private final String code;
+    private final Instant expiresAt;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    public TwoFactorAuthenticationChallengeEntity(String id, String username, String code, Instant expiresAt) {
+        this.id = id;
+        this.username = username;
+        this.code = code;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Counts a verification attempt and returns the number of attempts made so far, including this one.
+     */
+    public int attempt() {
+        return attempts.incrementAndGet();
+    }
+
+}
@@ -38,6 +38,10 @@ public class UserEntity {
         return password;
     }
 
+    public UserEntity withPassword(String password) {
+        return new UserEntity(id, username, password, emailAddress, phoneNumber, twoFactorAuthenticationType);
+    }
+
     public String getEmailAddress() {
         return emailAddress;
     }
@@ -0,0 +1,13 @@
+package dev.agitrubard.factory.model.request;
+
+public record VerifyRequest(String challengeId, String code) {
+
+    @Override
+    public String toString() {
+        return "{" +
+                "\"challengeId\": \"" + challengeId + "\"," +
+                "\"code\": \"" + code + "\"" +
+                "}";
+    }
+
+}
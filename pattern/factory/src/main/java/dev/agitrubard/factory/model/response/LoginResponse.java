@@ -0,0 +1,21 @@
+package dev.agitrubard.factory.model.response;
+
+/**
+ * {@code challengeId} is only set when a two-factor authentication challenge was sent, {@code accessToken} only once
+ * the login is complete.
+ */
+public record LoginResponse(String message, String challengeId, String accessToken) {
+
+    public static LoginResponse of(String message) {
+        return new LoginResponse(message, null, null);
+    }
+
+    public static LoginResponse challenged(String message, String challengeId) {
+        return new LoginResponse(message, challengeId, null);
+    }
+
+    public static LoginResponse authenticated(String message, String accessToken) {
+        return new LoginResponse(message, null, accessToken);
+    }
+
+}
@@ -0,0 +1,17 @@
+package dev.agitrubard.factory.model.response;
+
+/**
+ * Result of one row of a bulk registration. {@code index} is the zero-based position of the row in the request body,
+ * {@code id} is only set when the user was registered.
+ */
+public record RegisterBulkResponse(int index, String username, String id, boolean registered, String message) {
+
+    public static RegisterBulkResponse registered(int index, String username, String id) {
+        return new RegisterBulkResponse(index, username, id, true, "User registered!");
+    }
+
+    public static RegisterBulkResponse failed(int index, String username, String message) {
+        return new RegisterBulkResponse(index, username, null, false, message);
+    }
+
+}
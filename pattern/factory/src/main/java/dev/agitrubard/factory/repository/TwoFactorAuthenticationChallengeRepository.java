@@ -0,0 +1,21 @@
+package dev.agitrubard.factory.repository;
+
+import dev.agitrubard.factory.model.entity.TwoFactorAuthenticationChallengeEntity;
+
+import java.util.Optional;
+
+public interface TwoFactorAuthenticationChallengeRepository {
+
+    /**
+     * Returns the challenge, unless it does not exist or has expired.
+     */
+    Optional<TwoFactorAuthenticationChallengeEntity> findById(String id);
+
+    void save(TwoFactorAuthenticationChallengeEntity challengeEntity);
+
+    /**
+     * Deletes the challenge and returns whether this call deleted it, so a challenge can only be completed once.
+     */
+    boolean delete(TwoFactorAuthenticationChallengeEntity challengeEntity);
+
+}
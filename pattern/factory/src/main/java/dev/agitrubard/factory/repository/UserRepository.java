@@ -2,12 +2,32 @@ package dev.agitrubard.factory.repository;
 
 import dev.agitrubard.factory.model.entity.UserEntity;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
 
     Optional<UserEntity> findByUsername(String username);
 
+    Optional<UserEntity> findByEmailAddress(String emailAddress);
+
+    Optional<UserEntity> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * @throws IllegalArgumentException if the username, email address or phone number is already taken
+     */
     void save(UserEntity userEntity);
 
+    /**
+     * Saves every user like {@link #save(UserEntity)}; a user that cannot be saved does not stop the others.
+     *
+     * @return why each user could not be saved, in the order of the users, or {@code null} for a saved user
+     */
+    List<String> saveAll(List<UserEntity> userEntities);
+
+    /**
+     * @throws IllegalArgumentException if the email address or phone number has changed
+     */
+    void update(UserEntity userEntity);
+
 }
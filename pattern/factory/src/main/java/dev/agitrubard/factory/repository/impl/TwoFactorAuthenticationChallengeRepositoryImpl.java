@@ -0,0 +1,80 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.factory.model.entity.TwoFactorAuthenticationChallengeEntity;
+import dev.agitrubard.factory.repository.TwoFactorAuthenticationChallengeRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory store of pending challenges, swept of expired ones every
+ * {@code two-factor-authentication.challenge.sweep-interval}.
+ */
+@Repository
+class TwoFactorAuthenticationChallengeRepositoryImpl implements TwoFactorAuthenticationChallengeRepository,
+        DisposableBean {
+
+    private final Map<String, TwoFactorAuthenticationChallengeEntity> challengesById = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    TwoFactorAuthenticationChallengeRepositoryImpl(
+            @Value("${two-factor-authentication.challenge.sweep-interval:1m}") Duration sweepInterval) {
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("challenge-sweeper").daemon().factory()
+        );
+        this.sweeper.scheduleWithFixedDelay(
+                this::deleteExpired, sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public Optional<TwoFactorAuthenticationChallengeEntity> findById(String id) {
+
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        TwoFactorAuthenticationChallengeEntity challengeEntity = challengesById.get(id);
+        if (challengeEntity == null) {
+            return Optional.empty();
+        }
+
+        if (challengeEntity.isExpired(Instant.now())) {
+            challengesById.remove(id, challengeEntity);
+            return Optional.empty();
+        }
+
+        return Optional.of(challengeEntity);
+    }
+
+    @Override
+    public void save(TwoFactorAuthenticationChallengeEntity challengeEntity) {
+        challengesById.put(challengeEntity.getId(), challengeEntity);
+    }
+
+    @Override
+    public boolean delete(TwoFactorAuthenticationChallengeEntity challengeEntity) {
+        return challengesById.remove(challengeEntity.getId(), challengeEntity);
+    }
+
+    private void deleteExpired() {
+        Instant now = Instant.now();
+        challengesById.values().removeIf(challengeEntity -> challengeEntity.isExpired(now));
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+}
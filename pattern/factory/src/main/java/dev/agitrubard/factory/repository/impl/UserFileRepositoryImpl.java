@@ -0,0 +1,233 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable {@link UserRepository} engine, enabled with {@code user.repository.engine=file}. Users are served from a
+ * {@link UserTable}, every write is on disk in a {@link UserWriteAheadLog} before it returns, and a
+ * {@link UserSnapshot} is written every {@code user.repository.file.snapshot-interval} to truncate the log.
+ */
+@Repository
+@ConditionalOnProperty(name = "user.repository.engine", havingValue = "file")
+class UserFileRepositoryImpl implements UserRepository, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UserFileRepositoryImpl.class);
+
+    private final Path directory;
+    private final UserTable userTable;
+    private final UserWriteAheadLog writeAheadLog;
+    // Changes reach the table before the log, so a snapshot taken in between already contains them, and they reach
+    // both in the same order.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService snapshotScheduler;
+
+    UserFileRepositoryImpl(@Value("${user.repository.file.directory:data/users}") Path directory,
+                           @Value("${user.repository.file.snapshot-interval:5m}") Duration snapshotInterval) {
+
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User directory could not be created: " + directory, exception);
+        }
+
+        long snapshotGeneration = 0;
+        UserTable recoveredUserTable = new UserTable();
+        Optional<UserSnapshot.Reader> snapshot = UserSnapshot.open(directory);
+        if (snapshot.isPresent()) {
+            try (UserSnapshot.Reader reader = snapshot.get()) {
+                recoveredUserTable = new UserTable(reader.userCount());
+                reader.restoreInto(recoveredUserTable);
+                snapshotGeneration = reader.generation();
+            } catch (IOException exception) {
+                throw new UncheckedIOException("User snapshot could not be closed", exception);
+            }
+        }
+
+        long generation = snapshotGeneration;
+        for (Path segment : UserWriteAheadLog.segments(directory)) {
+            long segmentGeneration = UserWriteAheadLog.generationOf(segment);
+            if (segmentGeneration < snapshotGeneration) {
+                deleteSegment(segment);
+                continue;
+            }
+
+            UserWriteAheadLog.replay(segment, recoveredUserTable);
+            generation = segmentGeneration;
+        }
+
+        this.userTable = recoveredUserTable;
+        this.writeAheadLog = new UserWriteAheadLog(directory, generation);
+
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("user-snapshot").daemon().factory()
+        );
+        this.snapshotScheduler.scheduleWithFixedDelay(
+                this::snapshotIfChanged, snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public Optional<UserEntity> findByUsername(String username) {
+        return userTable.findByUsername(username);
+    }
+
+    @Override
+    public Optional<UserEntity> findByEmailAddress(String emailAddress) {
+        return userTable.findByEmailAddress(emailAddress);
+    }
+
+    @Override
+    public Optional<UserEntity> findByPhoneNumber(String phoneNumber) {
+        return userTable.findByPhoneNumber(phoneNumber);
+    }
+
+    /**
+     * @throws IllegalStateException if the log cannot be written, after removing the user again
+     */
+    @Override
+    public void save(UserEntity userEntity) {
+        byte[] frame = UserRecord.encode(userEntity);
+        long position;
+        writeLock.lock();
+        try {
+            userTable.save(userEntity, frame);
+            position = writeAheadLog.append(frame);
+        } finally {
+            writeLock.unlock();
+        }
+
+        this.awaitDurable(position, () -> userTable.remove(userEntity));
+    }
+
+    /**
+     * @throws IllegalStateException if the log cannot be written, after removing the whole batch again
+     */
+    @Override
+    public List<String> saveAll(List<UserEntity> userEntities) {
+        List<String> errors = new ArrayList<>(userEntities.size());
+        List<UserEntity> savedUserEntities = new ArrayList<>(userEntities.size());
+        long position = 0;
+        writeLock.lock();
+        try {
+            for (UserEntity userEntity : userEntities) {
+                try {
+                    byte[] frame = UserRecord.encode(userEntity);
+                    userTable.save(userEntity, frame);
+                    position = writeAheadLog.append(frame);
+                    savedUserEntities.add(userEntity);
+                    errors.add(null);
+                } catch (IllegalArgumentException exception) {
+                    errors.add(exception.getMessage());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        this.awaitDurable(position, () -> savedUserEntities.forEach(userTable::remove));
+        return errors;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the email address or phone number has changed
+     * @throws IllegalStateException    if the log cannot be written, after reverting the user to its previous state
+     */
+    @Override
+    public void update(UserEntity userEntity) {
+        byte[] frame = UserRecord.encode(userEntity);
+        long previousLocation;
+        long position;
+        writeLock.lock();
+        try {
+            previousLocation = userTable.update(userEntity, frame);
+            if (previousLocation == UserTable.REMOVED) {
+                return;
+            }
+            position = writeAheadLog.append(frame);
+        } finally {
+            writeLock.unlock();
+        }
+
+        this.awaitDurable(position, () -> userTable.revert(userEntity, frame, previousLocation));
+    }
+
+    private void awaitDurable(long position, Runnable rollback) {
+        try {
+            writeAheadLog.awaitDurable(position);
+        } catch (IllegalStateException exception) {
+            rollback.run();
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes that land in the new segment during the snapshot may also be contained in it, which replay tolerates.
+     */
+    void snapshot() {
+        snapshotLock.lock();
+        try {
+            long generation = writeAheadLog.rotate();
+            UserSnapshot.write(directory, generation, userTable);
+
+            for (Path segment : UserWriteAheadLog.segments(directory)) {
+                if (UserWriteAheadLog.generationOf(segment) < generation) {
+                    deleteSegment(segment);
+                }
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void snapshotIfChanged() {
+        try {
+            if (writeAheadLog.segmentLength() > 0) {
+                this.snapshot();
+            }
+        } catch (RuntimeException exception) {
+            log.error("User snapshot could not be written", exception);
+        }
+    }
+
+    /**
+     * Lets a running snapshot finish, because an interrupt would close the file channel it is writing to.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        snapshotScheduler.shutdown();
+        snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+        this.snapshotIfChanged();
+        writeAheadLog.close();
+    }
+
+    private static void deleteSegment(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User log segment could not be deleted: " + segment, exception);
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Frame layout of a {@link UserEntity}: the payload length, a CRC32C checksum of the payload and the payload.
+ * <pre>
+ * byte   flags                  (has email address, has phone number, has two-factor authentication type)
+ * short  id length              followed by the UTF-8 bytes of each string
+ * short  username length
+ * short  password length
+ * short  email address length   if present
+ * short  phone number length    if present
+ * short  type name length       if present
+ * </pre>
+ */
+final class UserRecord {
+
+    static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+    private static final int MAX_PAYLOAD_LENGTH = 1 + 6 * (Short.BYTES + MAX_STRING_LENGTH);
+
+    private static final byte HAS_EMAIL_ADDRESS = 1;
+    private static final byte HAS_PHONE_NUMBER = 1 << 1;
+    private static final byte HAS_TWO_FACTOR_AUTHENTICATION_TYPE = 1 << 2;
+
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    record Keys(String username, String emailAddress, String phoneNumber) {
+
+        static Keys of(UserEntity userEntity) {
+            return new Keys(userEntity.getUsername(), userEntity.getEmailAddress(), userEntity.getPhoneNumber());
+        }
+
+    }
+
+    private UserRecord() {
+    }
+
+    static byte[] encode(UserEntity userEntity) {
+
+        byte[] id = requiredBytesOf(userEntity.getId(), "id");
+        byte[] username = requiredBytesOf(userEntity.getUsername(), "username");
+        byte[] password = requiredBytesOf(userEntity.getPassword(), "password");
+        byte[] emailAddress = bytesOf(userEntity.getEmailAddress());
+        byte[] phoneNumber = bytesOf(userEntity.getPhoneNumber());
+        byte[] twoFactorAuthenticationType = userEntity.getTwoFactorAuthenticationType() != null
+                ? bytesOf(userEntity.getTwoFactorAuthenticationType().name())
+                : null;
+
+        int payloadLength = Byte.BYTES
+                + sizeOf(id) + sizeOf(username) + sizeOf(password)
+                + sizeOf(emailAddress) + sizeOf(phoneNumber) + sizeOf(twoFactorAuthenticationType);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadLength);
+        buffer.position(HEADER_SIZE);
+
+        int flags = 0;
+        if (emailAddress != null) {
+            flags |= HAS_EMAIL_ADDRESS;
+        }
+        if (phoneNumber != null) {
+            flags |= HAS_PHONE_NUMBER;
+        }
+        if (twoFactorAuthenticationType != null) {
+            flags |= HAS_TWO_FACTOR_AUTHENTICATION_TYPE;
+        }
+        buffer.put((byte) flags);
+
+        putString(buffer, id);
+        putString(buffer, username);
+        putString(buffer, password);
+        putString(buffer, emailAddress);
+        putString(buffer, phoneNumber);
+        putString(buffer, twoFactorAuthenticationType);
+
+        byte[] frame = buffer.array();
+        buffer.putInt(0, payloadLength);
+        buffer.putInt(Integer.BYTES, checksum(frame, HEADER_SIZE, payloadLength));
+        return frame;
+    }
+
+    /**
+     * Returns whether a payload length read from a file can belong to a frame, rather than to a torn write.
+     */
+    static boolean isPayloadLength(int payloadLength) {
+        return payloadLength >= 1 && payloadLength <= MAX_PAYLOAD_LENGTH;
+    }
+
+    static int payloadLengthOf(byte[] bytes, int frameOffset) {
+        return (int) INTS.get(bytes, frameOffset);
+    }
+
+    static void putHeader(byte[] bytes, int frameOffset, int payloadLength, int checksum) {
+        INTS.set(bytes, frameOffset, payloadLength);
+        INTS.set(bytes, frameOffset + Integer.BYTES, checksum);
+    }
+
+    static UserEntity decode(byte[] bytes, int frameOffset) {
+        return decode(ByteBuffer.wrap(bytes, frameOffset + HEADER_SIZE, payloadLengthOf(bytes, frameOffset)));
+    }
+
+    static Keys decodeKeys(byte[] bytes, int frameOffset) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, frameOffset + HEADER_SIZE, payloadLengthOf(bytes, frameOffset));
+        byte flags = buffer.get();
+        skipString(buffer);
+        String username = getString(buffer);
+        skipString(buffer);
+        String emailAddress = (flags & HAS_EMAIL_ADDRESS) != 0 ? getString(buffer) : null;
+        String phoneNumber = (flags & HAS_PHONE_NUMBER) != 0 ? getString(buffer) : null;
+        return new Keys(username, emailAddress, phoneNumber);
+    }
+
+    private static UserEntity decode(ByteBuffer buffer) {
+        byte flags = buffer.get();
+        String id = getString(buffer);
+        String username = getString(buffer);
+        String password = getString(buffer);
+        String emailAddress = (flags & HAS_EMAIL_ADDRESS) != 0 ? getString(buffer) : null;
+        String phoneNumber = (flags & HAS_PHONE_NUMBER) != 0 ? getString(buffer) : null;
+        TwoFactorAuthenticationType twoFactorAuthenticationType = (flags & HAS_TWO_FACTOR_AUTHENTICATION_TYPE) != 0
+                ? TwoFactorAuthenticationType.valueOf(getString(buffer))
+                : null;
+
+        return new UserEntity(id, username, password, emailAddress, phoneNumber, twoFactorAuthenticationType);
+    }
+
+    private static byte[] requiredBytesOf(String value, String field) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("User " + field + " is required to store a user");
+        }
+
+        return bytesOf(value);
+    }
+
+    private static byte[] bytesOf(String value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("User fields must not be longer than " + MAX_STRING_LENGTH + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int sizeOf(byte[] bytes) {
+        return bytes != null ? Short.BYTES + bytes.length : 0;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes != null) {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void skipString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        buffer.position(buffer.position() + length);
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+}
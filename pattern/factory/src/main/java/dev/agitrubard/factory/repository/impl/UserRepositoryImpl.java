@@ -1,66 +1,167 @@
 package dev.agitrubard.factory.repository.impl;
 
 import dev.agitrubard.factory.model.entity.UserEntity;
-import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
 import dev.agitrubard.factory.repository.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * In-memory {@link UserRepository} engine, used by default or with {@code user.repository.engine=memory}.
+ *
+ * <p>Values are claimed with {@code putIfAbsent}, email address and phone number first, so concurrent registrations
+ * with the same value never both succeed without a lock. A user counts as stored once its username is claimed.</p>
+ */
 @Repository
+@ConditionalOnProperty(name = "user.repository.engine", havingValue = "memory", matchIfMissing = true)
 class UserRepositoryImpl implements UserRepository {
 
-    private final List<UserEntity> users = new ArrayList<>();
-
-    public UserRepositoryImpl() {
-        users.add(
-                new UserEntity(
-                        UUID.randomUUID().toString(),
-                        "user1",
-                        "password1",
-                        "user1@agitrubard.dev",
-                        "1234567890",
-                        TwoFactorAuthenticationType.PASSKEY
-                )
-        );
-
-        users.add(
-                new UserEntity(
-                        UUID.randomUUID().toString(),
-                        "user2",
-                        "password2",
-                        "user2@agitrubard.dev",
-                        "1234567891",
-                        TwoFactorAuthenticationType.EMAIL
-                )
-        );
-
-        users.add(
-                new UserEntity(
-                        UUID.randomUUID().toString(),
-                        "user3",
-                        "password3",
-                        "user3@agitrubard.dev",
-                        "1234567892",
-                        TwoFactorAuthenticationType.SMS
-
-                )
-        );
-    }
+    private final Map<String, UserEntity> usersByUsername = new ConcurrentHashMap<>();
+    private final Map<String, UserEntity> usersByEmailAddress = new ConcurrentHashMap<>();
+    private final Map<String, UserEntity> usersByPhoneNumber = new ConcurrentHashMap<>();
 
     @Override
     public Optional<UserEntity> findByUsername(String username) {
-        return users.stream()
-                .filter(user -> user.getUsername().equals(username))
-                .findFirst();
+
+        if (username == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(usersByUsername.get(username));
+    }
+
+    @Override
+    public Optional<UserEntity> findByEmailAddress(String emailAddress) {
+
+        if (emailAddress == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(usersByEmailAddress.get(normalize(emailAddress)))
+                .flatMap(this::stored);
+    }
+
+    @Override
+    public Optional<UserEntity> findByPhoneNumber(String phoneNumber) {
+
+        if (phoneNumber == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(usersByPhoneNumber.get(phoneNumber))
+                .flatMap(this::stored);
     }
 
     @Override
     public void save(UserEntity userEntity) {
-        users.add(userEntity);
+
+        if (userEntity.getUsername() == null) {
+            throw new IllegalArgumentException("Username is required!");
+        }
+
+        String emailAddress = emailAddressOf(userEntity);
+        String phoneNumber = userEntity.getPhoneNumber();
+
+        if (!claim(usersByEmailAddress, emailAddress, userEntity)) {
+            throw new IllegalArgumentException("Email address is already taken!");
+        }
+
+        if (!claim(usersByPhoneNumber, phoneNumber, userEntity)) {
+            release(usersByEmailAddress, emailAddress, userEntity);
+            throw new IllegalArgumentException("Phone number is already taken!");
+        }
+
+        if (!claim(usersByUsername, userEntity.getUsername(), userEntity)) {
+            release(usersByPhoneNumber, phoneNumber, userEntity);
+            release(usersByEmailAddress, emailAddress, userEntity);
+            throw new IllegalArgumentException("Username is already taken!");
+        }
+    }
+
+    @Override
+    public List<String> saveAll(List<UserEntity> userEntities) {
+        List<String> errors = new ArrayList<>(userEntities.size());
+        for (UserEntity userEntity : userEntities) {
+            try {
+                this.save(userEntity);
+                errors.add(null);
+            } catch (IllegalArgumentException exception) {
+                errors.add(exception.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * The username index decides the stored instance, so a concurrent update of the same user retries on it.
+     */
+    @Override
+    public void update(UserEntity userEntity) {
+
+        while (true) {
+            UserEntity storedUserEntity = usersByUsername.get(userEntity.getUsername());
+            if (storedUserEntity == null) {
+                return;
+            }
+
+            if (!Objects.equals(storedUserEntity.getId(), userEntity.getId())) {
+                throw new IllegalArgumentException("User id cannot be changed!");
+            }
+
+            if (!Objects.equals(emailAddressOf(storedUserEntity), emailAddressOf(userEntity))
+                    || !Objects.equals(storedUserEntity.getPhoneNumber(), userEntity.getPhoneNumber())) {
+                throw new IllegalArgumentException("Email address and phone number cannot be changed!");
+            }
+
+            if (usersByUsername.replace(userEntity.getUsername(), storedUserEntity, userEntity)) {
+                replace(usersByEmailAddress, emailAddressOf(userEntity), storedUserEntity, userEntity);
+                replace(usersByPhoneNumber, userEntity.getPhoneNumber(), storedUserEntity, userEntity);
+                return;
+            }
+        }
+    }
+
+    /**
+     * A registration that is still in progress or was rolled back has no username entry yet.
+     */
+    private Optional<UserEntity> stored(UserEntity indexedUserEntity) {
+        UserEntity storedUserEntity = usersByUsername.get(indexedUserEntity.getUsername());
+        if (storedUserEntity == null || !Objects.equals(storedUserEntity.getId(), indexedUserEntity.getId())) {
+            return Optional.empty();
+        }
+        return Optional.of(storedUserEntity);
+    }
+
+    private static void replace(Map<String, UserEntity> index, String key, UserEntity oldUserEntity,
+                                UserEntity newUserEntity) {
+        if (key != null) {
+            index.replace(key, oldUserEntity, newUserEntity);
+        }
+    }
+
+    private static String emailAddressOf(UserEntity userEntity) {
+        return userEntity.getEmailAddress() != null ? normalize(userEntity.getEmailAddress()) : null;
+    }
+
+    private static boolean claim(Map<String, UserEntity> index, String key, UserEntity userEntity) {
+        return key == null || index.putIfAbsent(key, userEntity) == null;
+    }
+
+    private static void release(Map<String, UserEntity> index, String key, UserEntity userEntity) {
+        if (key != null) {
+            index.remove(key, userEntity);
+        }
+    }
+
+    private static String normalize(String emailAddress) {
+        return emailAddress.toLowerCase(Locale.ROOT);
     }
 
 }
@@ -0,0 +1,133 @@
+package dev.agitrubard.factory.repository.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Copy of every user, {@code users.snapshot}, written to a temporary file and renamed over the previous one.
+ */
+final class UserSnapshot {
+
+    static final String FILE_NAME = "users.snapshot";
+
+    private static final String TEMPORARY_FILE_NAME = FILE_NAME + ".tmp";
+    private static final int MAGIC = 0x55534E50;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final long USER_COUNT_POSITION = Integer.BYTES + Long.BYTES;
+
+    private UserSnapshot() {
+    }
+
+    static void write(Path directory, long generation, UserTable userTable) {
+        Path temporaryPath = directory.resolve(TEMPORARY_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(
+                temporaryPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            DataOutputStream outputStream = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+            );
+            outputStream.writeInt(MAGIC);
+            outputStream.writeLong(generation);
+            outputStream.writeInt(0);
+            int userCount = userTable.writeTo(outputStream);
+            outputStream.flush();
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(userCount).flip(), USER_COUNT_POSITION);
+            channel.force(true);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User snapshot could not be written", exception);
+        }
+
+        try {
+            Files.move(
+                    temporaryPath,
+                    directory.resolve(FILE_NAME),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
+            );
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User snapshot could not be replaced", exception);
+        }
+    }
+
+    static Optional<Reader> open(Path directory) {
+        Path path = directory.resolve(FILE_NAME);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Reader(path));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User snapshot could not be opened: " + path, exception);
+        }
+    }
+
+    static final class Reader implements Closeable {
+
+        private final Path path;
+        private final DataInputStream inputStream;
+        private final long generation;
+        private final int userCount;
+
+        private Reader(Path path) throws IOException {
+            this.path = path;
+            this.inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            try {
+                if (inputStream.readInt() != MAGIC) {
+                    throw new IllegalStateException("Not a user snapshot: " + path);
+                }
+                this.generation = inputStream.readLong();
+                this.userCount = inputStream.readInt();
+            } catch (IOException | RuntimeException exception) {
+                inputStream.close();
+                throw exception;
+            }
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        int userCount() {
+            return userCount;
+        }
+
+        /**
+         * A damaged snapshot fails the startup, unlike a torn log tail, because its users exist nowhere else.
+         */
+        void restoreInto(UserTable userTable) {
+            try {
+                for (int index = 0; index < userCount; index++) {
+                    if (userTable.load(inputStream) == 0) {
+                        throw new IllegalStateException("User snapshot is damaged at user " + index + ": " + path);
+                    }
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException("User snapshot could not be read: " + path, exception);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,533 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.factory.model.entity.UserEntity;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Compact store of the users of the {@link UserFileRepositoryImpl}: frames in a few large byte chunks, indexed by
+ * open-addressing hash tables of {@code long}s, so millions of users do not mean millions of objects.
+ *
+ * <p>Writes are serialized by a lock. Reads are lock-free: entries are published with release semantics after the
+ * bytes they point to and read with acquire semantics.</p>
+ */
+final class UserTable {
+
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+    static final long REMOVED = -1L;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile byte[][] chunks = new byte[0][];
+    private int writeOffset = CHUNK_SIZE;
+
+    private volatile long[] locations;
+    private volatile int lastUserNumber;
+    private volatile int userCount;
+
+    private volatile Tables tables;
+    private int usedSlots;
+
+    private record Tables(long[] usernames, long[] emailAddresses, long[] phoneNumbers) {
+
+        private Tables(int capacity) {
+            this(new long[capacity], new long[capacity], new long[capacity]);
+        }
+
+        private int capacity() {
+            return usernames.length;
+        }
+
+    }
+
+    UserTable() {
+        this(0);
+    }
+
+    UserTable(int expectedUserCount) {
+        this.locations = new long[Math.max(MINIMUM_CAPACITY, expectedUserCount + 1)];
+        this.tables = new Tables(capacityFor(expectedUserCount));
+    }
+
+    Optional<UserEntity> findByUsername(String username) {
+
+        if (username == null) {
+            return Optional.empty();
+        }
+
+        return this.find(tables.usernames(), username.hashCode(), user -> username.equals(user.getUsername()));
+    }
+
+    Optional<UserEntity> findByEmailAddress(String emailAddress) {
+
+        if (emailAddress == null) {
+            return Optional.empty();
+        }
+
+        String normalizedEmailAddress = normalize(emailAddress);
+        return this.find(
+                tables.emailAddresses(),
+                normalizedEmailAddress.hashCode(),
+                user -> hasEmailAddress(user, normalizedEmailAddress)
+        );
+    }
+
+    Optional<UserEntity> findByPhoneNumber(String phoneNumber) {
+
+        if (phoneNumber == null) {
+            return Optional.empty();
+        }
+
+        return this.find(
+                tables.phoneNumbers(),
+                phoneNumber.hashCode(),
+                user -> phoneNumber.equals(user.getPhoneNumber())
+        );
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the username is missing, or any of its values is already taken
+     */
+    void save(UserEntity userEntity, byte[] frame) {
+
+        if (userEntity.getUsername() == null) {
+            throw new IllegalArgumentException("Username is required!");
+        }
+
+        writeLock.lock();
+        try {
+            Tables current = tables;
+            String emailAddress = userEntity.getEmailAddress();
+            if (emailAddress != null && this.findNumberByEmailAddress(current, normalize(emailAddress)) != 0) {
+                throw new IllegalArgumentException("Email address is already taken!");
+            }
+
+            String phoneNumber = userEntity.getPhoneNumber();
+            if (phoneNumber != null && this.findNumberByPhoneNumber(current, phoneNumber) != 0) {
+                throw new IllegalArgumentException("Phone number is already taken!");
+            }
+
+            if (this.findNumberByUsername(current, userEntity.getUsername()) != 0) {
+                throw new IllegalArgumentException("Username is already taken!");
+            }
+
+            long location = this.reserve(frame.length);
+            System.arraycopy(frame, 0, chunks[chunkOf(location)], offsetOf(location), frame.length);
+            writeOffset += frame.length;
+            this.add(UserRecord.Keys.of(userEntity), location);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the location of the previous frame, or {@link #REMOVED} for an unknown username.
+     *
+     * @throws IllegalArgumentException if the id, email address or phone number has changed
+     */
+    long update(UserEntity userEntity, byte[] frame) {
+        writeLock.lock();
+        try {
+            int userNumber = this.findNumberByUsername(tables, userEntity.getUsername());
+            if (userNumber == 0) {
+                return REMOVED;
+            }
+
+            UserEntity storedUserEntity = this.decode(userNumber);
+            if (!Objects.equals(storedUserEntity.getId(), userEntity.getId())) {
+                throw new IllegalArgumentException("User id cannot be changed!");
+            }
+
+            if (!Objects.equals(normalizedEmailAddressOf(storedUserEntity), normalizedEmailAddressOf(userEntity))
+                    || !Objects.equals(storedUserEntity.getPhoneNumber(), userEntity.getPhoneNumber())) {
+                throw new IllegalArgumentException("Email address and phone number cannot be changed!");
+            }
+
+            long previousLocation = locations[userNumber];
+            long location = this.reserve(frame.length);
+            System.arraycopy(frame, 0, chunks[chunkOf(location)], offsetOf(location), frame.length);
+            writeOffset += frame.length;
+            LONGS.setRelease(locations, userNumber, location);
+            return previousLocation;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Points the user back to its previous frame, unless it was updated again since.
+     */
+    void revert(UserEntity userEntity, byte[] frame, long previousLocation) {
+        writeLock.lock();
+        try {
+            int userNumber = this.findNumberByUsername(tables, userEntity.getUsername());
+            if (userNumber == 0) {
+                return;
+            }
+
+            long location = locations[userNumber];
+            int frameOffset = offsetOf(location);
+            byte[] chunk = chunks[chunkOf(location)];
+            if (frameOffset + frame.length <= chunk.length
+                    && Arrays.equals(chunk, frameOffset, frameOffset + frame.length, frame, 0, frame.length)) {
+                LONGS.setRelease(locations, userNumber, previousLocation);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remove(UserEntity userEntity) {
+        writeLock.lock();
+        try {
+            int userNumber = this.findNumberByUsername(tables, userEntity.getUsername());
+            if (userNumber == 0) {
+                return;
+            }
+
+            UserEntity storedUserEntity = this.decode(userNumber);
+            if (!Objects.equals(storedUserEntity.getId(), userEntity.getId())) {
+                return;
+            }
+
+            this.unlink(UserRecord.Keys.of(storedUserEntity), userNumber, true);
+            LONGS.setRelease(locations, userNumber, REMOVED);
+            userCount--;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the length of the frame, or {@code 0} at the end of the stream and for a torn or corrupt frame.
+     */
+    int restore(DataInputStream inputStream) throws IOException {
+        return this.read(inputStream, true);
+    }
+
+    /**
+     * Like {@link #restore(DataInputStream)}, but always as a new user, since the users of a snapshot are distinct.
+     */
+    int load(DataInputStream inputStream) throws IOException {
+        return this.read(inputStream, false);
+    }
+
+    private int read(DataInputStream inputStream, boolean replacing) throws IOException {
+        writeLock.lock();
+        try {
+            int payloadLength;
+            int checksum;
+            try {
+                payloadLength = inputStream.readInt();
+                checksum = inputStream.readInt();
+            } catch (EOFException exception) {
+                return 0;
+            }
+
+            if (!UserRecord.isPayloadLength(payloadLength)) {
+                return 0;
+            }
+
+            int frameLength = UserRecord.HEADER_SIZE + payloadLength;
+            long location = this.reserve(frameLength);
+            byte[] chunk = chunks[chunkOf(location)];
+            int frameOffset = offsetOf(location);
+            try {
+                inputStream.readFully(chunk, frameOffset + UserRecord.HEADER_SIZE, payloadLength);
+            } catch (EOFException exception) {
+                return 0;
+            }
+
+            if (UserRecord.checksum(chunk, frameOffset + UserRecord.HEADER_SIZE, payloadLength) != checksum) {
+                return 0;
+            }
+
+            UserRecord.putHeader(chunk, frameOffset, payloadLength, checksum);
+            writeOffset += frameLength;
+
+            UserRecord.Keys keys = UserRecord.decodeKeys(chunk, frameOffset);
+            int userNumber = replacing ? this.findNumberByUsername(tables, keys.username()) : 0;
+            if (userNumber == 0) {
+                this.add(keys, location);
+                return frameLength;
+            }
+
+            UserRecord.Keys previousKeys = this.decodeKeys(userNumber);
+            boolean keysChanged = !Objects.equals(previousKeys.emailAddress(), keys.emailAddress())
+                    || !Objects.equals(previousKeys.phoneNumber(), keys.phoneNumber());
+            if (keysChanged) {
+                this.ensureCapacity();
+                this.unlink(previousKeys, userNumber, false);
+            }
+            LONGS.setRelease(locations, userNumber, location);
+            if (keysChanged) {
+                this.link(keys, userNumber, false);
+            }
+            return frameLength;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs concurrently with writes; a user saved meanwhile may or may not be included.
+     */
+    int writeTo(DataOutput output) throws IOException {
+        int writtenCount = 0;
+        int last = lastUserNumber;
+        long[] currentLocations = locations;
+        for (int userNumber = 1; userNumber <= last; userNumber++) {
+            long location = (long) LONGS.getAcquire(currentLocations, userNumber);
+            if (location == REMOVED) {
+                continue;
+            }
+
+            byte[] bytes = chunks[chunkOf(location)];
+            int frameOffset = offsetOf(location);
+            output.write(bytes, frameOffset, UserRecord.HEADER_SIZE + UserRecord.payloadLengthOf(bytes, frameOffset));
+            writtenCount++;
+        }
+        return writtenCount;
+    }
+
+    private Optional<UserEntity> find(long[] table, int hash, Predicate<UserEntity> matches) {
+        int mask = table.length - 1;
+        for (int slot = slotOf(hash, mask); ; slot = (slot + 1) & mask) {
+            long entry = (long) LONGS.getAcquire(table, slot);
+            if (entry == EMPTY) {
+                return Optional.empty();
+            }
+
+            if (entry != TOMBSTONE && hashOf(entry) == hash) {
+                UserEntity userEntity = this.decode(userNumberOf(entry));
+                if (userEntity != null && matches.test(userEntity)) {
+                    return Optional.of(userEntity);
+                }
+            }
+        }
+    }
+
+    private int findNumberByUsername(Tables current, String username) {
+        return this.findNumber(current.usernames(), username.hashCode(), user -> username.equals(user.getUsername()));
+    }
+
+    private int findNumberByEmailAddress(Tables current, String normalizedEmailAddress) {
+        return this.findNumber(
+                current.emailAddresses(),
+                normalizedEmailAddress.hashCode(),
+                user -> hasEmailAddress(user, normalizedEmailAddress)
+        );
+    }
+
+    private int findNumberByPhoneNumber(Tables current, String phoneNumber) {
+        return this.findNumber(
+                current.phoneNumbers(),
+                phoneNumber.hashCode(),
+                user -> phoneNumber.equals(user.getPhoneNumber())
+        );
+    }
+
+    private int findNumber(long[] table, int hash, Predicate<UserEntity> matches) {
+        int mask = table.length - 1;
+        for (int slot = slotOf(hash, mask); ; slot = (slot + 1) & mask) {
+            long entry = table[slot];
+            if (entry == EMPTY) {
+                return 0;
+            }
+
+            if (entry != TOMBSTONE && hashOf(entry) == hash) {
+                int userNumber = userNumberOf(entry);
+                UserEntity userEntity = this.decode(userNumber);
+                if (userEntity != null && matches.test(userEntity)) {
+                    return userNumber;
+                }
+            }
+        }
+    }
+
+    private UserRecord.Keys decodeKeys(int userNumber) {
+        long location = (long) LONGS.getAcquire(locations, userNumber);
+        if (location == REMOVED) {
+            return null;
+        }
+
+        return UserRecord.decodeKeys(chunks[chunkOf(location)], offsetOf(location));
+    }
+
+    private UserEntity decode(int userNumber) {
+        long location = (long) LONGS.getAcquire(locations, userNumber);
+        if (location == REMOVED) {
+            return null;
+        }
+
+        return UserRecord.decode(chunks[chunkOf(location)], offsetOf(location));
+    }
+
+    /**
+     * The caller copies the frame to the returned location and only then moves {@link #writeOffset} past it.
+     */
+    private long reserve(int frameLength) {
+
+        byte[][] currentChunks = chunks;
+        if (writeOffset + frameLength > CHUNK_SIZE) {
+            currentChunks = Arrays.copyOf(currentChunks, currentChunks.length + 1);
+            currentChunks[currentChunks.length - 1] = new byte[CHUNK_SIZE];
+            chunks = currentChunks;
+            writeOffset = 0;
+        }
+
+        return ((long) (currentChunks.length - 1) << 32) | writeOffset;
+    }
+
+    private void add(UserRecord.Keys keys, long location) {
+
+        this.ensureCapacity();
+        int userNumber = lastUserNumber + 1;
+        long[] currentLocations = locations;
+        if (userNumber == currentLocations.length) {
+            currentLocations = Arrays.copyOf(currentLocations, currentLocations.length * 2);
+            locations = currentLocations;
+        }
+        LONGS.setRelease(currentLocations, userNumber, location);
+        lastUserNumber = userNumber;
+        userCount++;
+        this.link(keys, userNumber, true);
+    }
+
+    private void link(UserRecord.Keys keys, int userNumber, boolean withUsername) {
+        usedSlots++;
+        insertAll(tables, keys, userNumber, withUsername);
+    }
+
+    private void unlink(UserRecord.Keys keys, int userNumber, boolean withUsername) {
+        Tables current = tables;
+        if (withUsername) {
+            delete(current.usernames(), keys.username().hashCode(), userNumber);
+        }
+        if (keys.emailAddress() != null) {
+            delete(current.emailAddresses(), normalize(keys.emailAddress()).hashCode(), userNumber);
+        }
+        if (keys.phoneNumber() != null) {
+            delete(current.phoneNumbers(), keys.phoneNumber().hashCode(), userNumber);
+        }
+    }
+
+    /**
+     * Keeps the hash tables at most 70% full, counting tombstones as used slots.
+     */
+    private void ensureCapacity() {
+        if ((usedSlots + 1) * 10L > tables.capacity() * 7L) {
+            this.rebuild();
+        }
+    }
+
+    /**
+     * Readers that still hold the previous tables keep finding every user stored before the rebuild.
+     */
+    private void rebuild() {
+        Tables rebuiltTables = new Tables(capacityFor(userCount * 2));
+        int rebuiltSlots = 0;
+        for (int userNumber = 1; userNumber <= lastUserNumber; userNumber++) {
+            UserRecord.Keys keys = this.decodeKeys(userNumber);
+            if (keys != null) {
+                insertAll(rebuiltTables, keys, userNumber, true);
+                rebuiltSlots++;
+            }
+        }
+
+        tables = rebuiltTables;
+        usedSlots = rebuiltSlots;
+    }
+
+    private static void insertAll(Tables target, UserRecord.Keys keys, int userNumber, boolean withUsername) {
+        if (withUsername) {
+            insert(target.usernames(), keys.username().hashCode(), userNumber);
+        }
+        if (keys.emailAddress() != null) {
+            insert(target.emailAddresses(), normalize(keys.emailAddress()).hashCode(), userNumber);
+        }
+        if (keys.phoneNumber() != null) {
+            insert(target.phoneNumbers(), keys.phoneNumber().hashCode(), userNumber);
+        }
+    }
+
+    private static void insert(long[] table, int hash, int userNumber) {
+        int mask = table.length - 1;
+        int slot = slotOf(hash, mask);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        LONGS.setRelease(table, slot, ((long) hash << 32) | userNumber);
+    }
+
+    private static void delete(long[] table, int hash, int userNumber) {
+        int mask = table.length - 1;
+        for (int slot = slotOf(hash, mask); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            long entry = table[slot];
+            if (entry != TOMBSTONE && hashOf(entry) == hash && userNumberOf(entry) == userNumber) {
+                LONGS.setRelease(table, slot, TOMBSTONE);
+                return;
+            }
+        }
+    }
+
+    private static int capacityFor(int userCount) {
+        long minimumCapacity = Math.max(MINIMUM_CAPACITY, userCount * 10L / 7 + 1);
+        return (int) Math.min(1L << 30, Long.highestOneBit(minimumCapacity - 1) << 1);
+    }
+
+    private static int slotOf(int hash, int mask) {
+        int mixed = hash * 0x9E3779B9;
+        return (mixed ^ (mixed >>> 16)) & mask;
+    }
+
+    private static int hashOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int userNumberOf(long entry) {
+        return (int) entry;
+    }
+
+    private static int chunkOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    private static String normalizedEmailAddressOf(UserEntity userEntity) {
+        return userEntity.getEmailAddress() != null ? normalize(userEntity.getEmailAddress()) : null;
+    }
+
+    private static boolean hasEmailAddress(UserEntity userEntity, String normalizedEmailAddress) {
+        return userEntity.getEmailAddress() != null
+                && normalizedEmailAddress.equals(normalize(userEntity.getEmailAddress()));
+    }
+
+    private static String normalize(String emailAddress) {
+        return emailAddress.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,247 @@
+package dev.agitrubard.factory.repository.impl;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of {@link UserRecord} frames in segment files {@code users-<generation>.wal}.
+ *
+ * <p>The first writer waiting in {@link #awaitDurable(long)} writes and fsyncs the whole buffer for every writer
+ * whose frame is in it, so concurrent writes share their fsyncs.</p>
+ */
+final class UserWriteAheadLog implements Closeable {
+
+    private static final String PREFIX = "users-";
+    private static final String SUFFIX = ".wal";
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    private final Path directory;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // Guarded by appendLock
+    private byte[] pending = new byte[INITIAL_BUFFER_SIZE];
+    private int pendingLength;
+    private long appendedPosition;
+
+    // Guarded by flushLock
+    private byte[] flushing = new byte[INITIAL_BUFFER_SIZE];
+    private FileChannel channel;
+    private long generation;
+    private long segmentLength;
+    private IOException failure;
+
+    private volatile long durablePosition;
+
+    UserWriteAheadLog(Path directory, long generation) {
+        this.directory = directory;
+        this.generation = generation;
+        this.channel = this.open(generation);
+    }
+
+    static List<Path> segments(Path directory) {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.startsWith(PREFIX) && fileName.endsWith(SUFFIX);
+                    })
+                    .sorted((first, second) -> Long.compare(generationOf(first), generationOf(second)))
+                    .toList();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User log segments could not be listed: " + directory, exception);
+        }
+    }
+
+    static long generationOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(PREFIX.length(), fileName.length() - SUFFIX.length()));
+    }
+
+    /**
+     * A torn frame left behind by a crash ends the replay and is cut off, together with everything after it.
+     */
+    static void replay(Path segment, UserTable userTable) {
+        long validLength = 0;
+        try (DataInputStream inputStream = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(segment), READ_BUFFER_SIZE))) {
+
+            int frameLength;
+            while ((frameLength = userTable.restore(inputStream)) > 0) {
+                validLength += frameLength;
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User log segment could not be replayed: " + segment, exception);
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            if (fileChannel.size() > validLength) {
+                fileChannel.truncate(validLength);
+                fileChannel.force(true);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Torn user log segment could not be truncated: " + segment, exception);
+        }
+    }
+
+    long append(byte[] frame) {
+        appendLock.lock();
+        try {
+            if (pendingLength + frame.length > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + frame.length));
+            }
+            System.arraycopy(frame, 0, pending, pendingLength, frame.length);
+            pendingLength += frame.length;
+            appendedPosition += frame.length;
+            return appendedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every frame before {@code position} is on disk.
+     *
+     * @throws IllegalStateException if the log could not be written, which fails every later write as well
+     */
+    void awaitDurable(long position) {
+
+        if (durablePosition >= position) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            if (durablePosition < position) {
+                this.flush();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    long segmentLength() {
+        flushLock.lock();
+        try {
+            return segmentLength + this.pendingLength();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the generation of the new segment; a snapshot taken after it contains every user of the earlier ones.
+     */
+    long rotate() {
+        flushLock.lock();
+        try {
+            this.flush();
+            this.closeChannel();
+            generation++;
+            segmentLength = 0;
+            channel = this.open(generation);
+            return generation;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flushLock.lock();
+        try {
+            this.flush();
+        } finally {
+            this.closeChannel();
+            flushLock.unlock();
+        }
+    }
+
+    private int pendingLength() {
+        appendLock.lock();
+        try {
+            return pendingLength;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void flush() {
+
+        if (failure != null) {
+            throw new IllegalStateException("User log is not writable", failure);
+        }
+
+        int length;
+        long position;
+        appendLock.lock();
+        try {
+            byte[] buffer = flushing;
+            flushing = pending;
+            pending = buffer.length >= flushing.length ? buffer : new byte[flushing.length];
+            length = pendingLength;
+            position = appendedPosition;
+            pendingLength = 0;
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (length == 0) {
+            durablePosition = position;
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(flushing, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException exception) {
+            failure = exception;
+            throw new IllegalStateException("User log is not writable", exception);
+        }
+
+        segmentLength += length;
+        durablePosition = position;
+    }
+
+    private FileChannel open(long segmentGeneration) {
+        Path segment = directory.resolve(PREFIX + String.format("%020d", segmentGeneration) + SUFFIX);
+        try {
+            FileChannel fileChannel = FileChannel.open(
+                    segment,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+            );
+            segmentLength = fileChannel.size();
+            return fileChannel;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User log segment could not be opened: " + segment, exception);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("User log segment could not be closed", exception);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package dev.agitrubard.factory.service;
+
+import dev.agitrubard.factory.model.entity.AccessTokenEntity;
+
+import java.util.Optional;
+
+public interface AccessTokenService {
+
+    String issue(String username);
+
+    /**
+     * Returns the content of the token if it is signed by this service, not expired and not revoked.
+     */
+    Optional<AccessTokenEntity> verify(String accessToken);
+
+    /**
+     * Rejects the token until it expires.
+     */
+    void revoke(AccessTokenEntity accessTokenEntity);
+
+}
@@ -0,0 +1,10 @@
+package dev.agitrubard.factory.service;
+
+public interface LoginRateLimiter {
+
+    /**
+     * Returns whether the attempt fits the budgets of the client address and the username. {@code null} has no budget.
+     */
+    boolean tryAcquire(String username, String clientAddress);
+
+}
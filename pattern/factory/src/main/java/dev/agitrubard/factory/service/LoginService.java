@@ -1,9 +1,10 @@
 package dev.agitrubard.factory.service;
 
 import dev.agitrubard.factory.model.request.LoginRequest;
+import dev.agitrubard.factory.model.response.LoginResponse;
 
 public interface LoginService {
 
-    String login(LoginRequest loginRequest);
+    LoginResponse login(LoginRequest loginRequest);
 
 }
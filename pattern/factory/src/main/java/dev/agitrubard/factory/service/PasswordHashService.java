@@ -0,0 +1,28 @@
+package dev.agitrubard.factory.service;
+
+import java.util.List;
+
+public interface PasswordHashService {
+
+    /**
+     * @throws IllegalStateException if too many passwords are waiting to be hashed
+     */
+    String hash(String password);
+
+    /**
+     * Hashes the passwords in parallel, returning the hashes in the order of the passwords.
+     *
+     * @throws IllegalStateException if too many passwords are waiting to be hashed
+     */
+    List<String> hashAll(List<String> passwords);
+
+    /**
+     * Checks the password in constant time. A stored value that is not a hash never matches.
+     *
+     * @throws IllegalStateException if too many passwords are waiting to be hashed
+     */
+    boolean matches(String password, String passwordHash);
+
+    boolean needsRehash(String passwordHash);
+
+}
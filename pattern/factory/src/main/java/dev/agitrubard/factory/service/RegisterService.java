@@ -1,9 +1,20 @@
 package dev.agitrubard.factory.service;
 
 import dev.agitrubard.factory.model.request.RegisterRequest;
+import dev.agitrubard.factory.model.response.RegisterBulkResponse;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface RegisterService {
 
     String register(RegisterRequest registerRequest);
 
+    /**
+     * Registers every row of a newline-delimited JSON stream in batches, passing each batch's results to the consumer
+     * before the next batch is read. A row that cannot be registered does not stop the others.
+     */
+    void registerAll(InputStream inputStream, Consumer<List<RegisterBulkResponse>> resultConsumer);
+
 }
@@ -0,0 +1,21 @@
+package dev.agitrubard.factory.service;
+
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.request.VerifyRequest;
+import dev.agitrubard.factory.model.response.LoginResponse;
+
+public interface TwoFactorAuthenticationChallengeService {
+
+    /**
+     * Creates a challenge and sends its code in the background, returning the challenge ID.
+     *
+     * @throws IllegalStateException if too many codes are waiting to be sent
+     */
+    String challenge(UserEntity userEntity, TwoFactorAuthenticationService twoFactorAuthenticationService);
+
+    /**
+     * Completes the login of the challenge when the code matches, issuing an access token.
+     */
+    LoginResponse verify(VerifyRequest verifyRequest);
+
+}
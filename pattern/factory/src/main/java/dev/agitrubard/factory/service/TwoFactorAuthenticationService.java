@@ -1,7 +1,21 @@
 package dev.agitrubard.factory.service;
 
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+
 public interface TwoFactorAuthenticationService {
 
+    TwoFactorAuthenticationType getType();
+
+    /**
+     * Returns the message telling the user how the authentication code reaches them. Does not block.
+     */
     String authenticate();
 
+    /**
+     * Delivers the authentication code to the user through the provider. Blocks until the provider accepted it, so it
+     * is called outside of request threads.
+     */
+    void sendCode(UserEntity userEntity, String code);
+
 }
@@ -0,0 +1,179 @@
+package dev.agitrubard.factory.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.agitrubard.factory.model.entity.AccessTokenEntity;
+import dev.agitrubard.factory.service.AccessTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Issues stateless access tokens signed with HMAC-SHA256, {@code <payload>.<signature>} in Base64URL. Verified and
+ * revoked tokens are cached by token ID until they expire, so repeated requests with the same token skip the HMAC.
+ */
+@Service
+class AccessTokenServiceImpl implements AccessTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '.';
+    private static final String PAYLOAD_SEPARATOR = ":";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Cache<String, VerifiedAccessToken> verifiedAccessTokensById;
+    private final Cache<String, AccessTokenEntity> revokedAccessTokensById;
+
+    private final Mac mac;
+    private final Duration timeToLive;
+
+    AccessTokenServiceImpl(@Value("${access-token.secret:}") String secret,
+                           @Value("${access-token.time-to-live:15m}") Duration timeToLive,
+                           @Value("${access-token.cache.maximum-size:10000}") long cacheMaximumSize,
+                           @Value("${access-token.revoked.maximum-size:100000}") long revokedMaximumSize)
+            throws GeneralSecurityException {
+
+        byte[] key = secret.isBlank() ? randomKey() : secret.getBytes(StandardCharsets.UTF_8);
+        this.mac = Mac.getInstance(ALGORITHM);
+        this.mac.init(new SecretKeySpec(key, ALGORITHM));
+        this.timeToLive = timeToLive;
+
+        this.verifiedAccessTokensById = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry<>(VerifiedAccessToken::accessTokenEntity))
+                .build();
+        // An evicted revocation lets its token verify again until it expires, so keep this bound well above the
+        // number of logouts expected within one time-to-live.
+        this.revokedAccessTokensById = Caffeine.newBuilder()
+                .maximumSize(revokedMaximumSize)
+                .expireAfter(new UntilTokenExpiry<>(Function.<AccessTokenEntity>identity()))
+                .build();
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    @Override
+    public String issue(String username) {
+        Instant expiresAt = Instant.now().plus(timeToLive);
+        String payload = UUID.randomUUID() + PAYLOAD_SEPARATOR + expiresAt.getEpochSecond()
+                + PAYLOAD_SEPARATOR + username;
+
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + SEPARATOR + ENCODER.encodeToString(this.sign(payloadBytes));
+    }
+
+    @Override
+    public Optional<AccessTokenEntity> verify(String accessToken) {
+
+        if (accessToken == null) {
+            return Optional.empty();
+        }
+
+        AccessTokenEntity accessTokenEntity = this.decode(accessToken);
+        if (accessTokenEntity == null || accessTokenEntity.isExpired(Instant.now())
+                || revokedAccessTokensById.getIfPresent(accessTokenEntity.getId()) != null) {
+            return Optional.empty();
+        }
+
+        VerifiedAccessToken verified = verifiedAccessTokensById.getIfPresent(accessTokenEntity.getId());
+        if (verified == null || !verified.accessToken().equals(accessToken)) {
+            if (!this.isSigned(accessToken)) {
+                return Optional.empty();
+            }
+            verified = new VerifiedAccessToken(accessToken, accessTokenEntity);
+            verifiedAccessTokensById.put(accessTokenEntity.getId(), verified);
+        }
+
+        return Optional.of(verified.accessTokenEntity());
+    }
+
+    @Override
+    public void revoke(AccessTokenEntity accessTokenEntity) {
+        revokedAccessTokensById.put(accessTokenEntity.getId(), accessTokenEntity);
+        verifiedAccessTokensById.invalidate(accessTokenEntity.getId());
+    }
+
+    /**
+     * Reads the payload without checking the signature.
+     */
+    private AccessTokenEntity decode(String accessToken) {
+
+        int separatorIndex = accessToken.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            return null;
+        }
+
+        try {
+            byte[] payloadBytes = DECODER.decode(accessToken.substring(0, separatorIndex));
+            String[] payload = new String(payloadBytes, StandardCharsets.UTF_8).split(PAYLOAD_SEPARATOR, 3);
+            return new AccessTokenEntity(payload[0], payload[2], Instant.ofEpochSecond(Long.parseLong(payload[1])));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+            return null;
+        }
+    }
+
+    private boolean isSigned(String accessToken) {
+        int separatorIndex = accessToken.indexOf(SEPARATOR);
+        try {
+            byte[] payloadBytes = DECODER.decode(accessToken.substring(0, separatorIndex));
+            byte[] signature = DECODER.decode(accessToken.substring(separatorIndex + 1));
+            return MessageDigest.isEqual(signature, this.sign(payloadBytes));
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Signs with a clone of the initialized {@link Mac}, since a {@link Mac} cannot be shared between threads.
+     */
+    private byte[] sign(byte[] payloadBytes) {
+        try {
+            return ((Mac) mac.clone()).doFinal(payloadBytes);
+        } catch (CloneNotSupportedException exception) {
+            throw new IllegalStateException("HMAC cannot be cloned", exception);
+        }
+    }
+
+    private record VerifiedAccessToken(String accessToken, AccessTokenEntity accessTokenEntity) {
+    }
+
+    private record UntilTokenExpiry<V>(Function<V, AccessTokenEntity> accessTokenEntityOf)
+            implements Expiry<String, V> {
+
+        @Override
+        public long expireAfterCreate(String id, V value, long currentTime) {
+            Instant expiresAt = accessTokenEntityOf.apply(value).getExpiresAt();
+            return Math.max(0L, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, V value, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(id, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
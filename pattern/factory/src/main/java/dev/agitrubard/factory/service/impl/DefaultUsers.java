@@ -0,0 +1,67 @@
+package dev.agitrubard.factory.service.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+import dev.agitrubard.factory.repository.UserRepository;
+import dev.agitrubard.factory.service.PasswordHashService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saves the demo users, one per two-factor authentication type, with hashed passwords on startup when they are missing.
+ */
+@Component
+class DefaultUsers {
+
+    private static final List<DefaultUser> DEFAULT_USERS = List.of(
+            new DefaultUser("user1", "password1", "user1@agitrubard.dev", "5550000001",
+                    TwoFactorAuthenticationType.PASSKEY),
+            new DefaultUser("user2", "password2", "user2@agitrubard.dev", "5550000002",
+                    TwoFactorAuthenticationType.EMAIL),
+            new DefaultUser("user3", "password3", "user3@agitrubard.dev", "5550000003",
+                    TwoFactorAuthenticationType.SMS)
+    );
+
+    DefaultUsers(UserRepository userRepository,
+                 PasswordHashService passwordHashService,
+                 TimeOrderedIdGenerator timeOrderedIdGenerator) {
+
+        List<DefaultUser> missingUsers = DEFAULT_USERS.stream()
+                .filter(defaultUser -> userRepository.findByUsername(defaultUser.username()).isEmpty())
+                .toList();
+
+        if (missingUsers.isEmpty()) {
+            return;
+        }
+
+        List<String> passwordHashes = passwordHashService.hashAll(missingUsers.stream()
+                .map(DefaultUser::password)
+                .toList());
+
+        List<UserEntity> userEntities = new ArrayList<>(missingUsers.size());
+        for (int i = 0; i < missingUsers.size(); i++) {
+            DefaultUser defaultUser = missingUsers.get(i);
+            userEntities.add(new UserEntity(
+                    timeOrderedIdGenerator.nextUuid().toString(),
+                    defaultUser.username(),
+                    passwordHashes.get(i),
+                    defaultUser.emailAddress(),
+                    defaultUser.phoneNumber(),
+                    defaultUser.twoFactorAuthenticationType()
+            ));
+        }
+
+        userRepository.saveAll(userEntities);
+    }
+
+    private record DefaultUser(String username,
+                               String password,
+                               String emailAddress,
+                               String phoneNumber,
+                               TwoFactorAuthenticationType twoFactorAuthenticationType) {
+    }
+
+}
@@ -1,12 +1,33 @@
 package dev.agitrubard.factory.service.impl;
 
+import dev.agitrubard.common.latency.SimulatedLatency;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
+import org.springframework.stereotype.Service;
 
+@Service
 class EmailAuthenticationServiceImpl implements TwoFactorAuthenticationService {
 
+    private final SimulatedLatency simulatedLatency;
+
+    EmailAuthenticationServiceImpl(SimulatedLatency simulatedLatency) {
+        this.simulatedLatency = simulatedLatency;
+    }
+
+    @Override
+    public TwoFactorAuthenticationType getType() {
+        return TwoFactorAuthenticationType.EMAIL;
+    }
+
     @Override
     public String authenticate() {
         return "User authenticating via Email...";
     }
 
+    @Override
+    public void sendCode(UserEntity userEntity, String code) {
+        simulatedLatency.await();
+    }
+
 }
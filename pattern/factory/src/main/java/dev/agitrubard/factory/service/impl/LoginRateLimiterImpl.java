@@ -0,0 +1,66 @@
+package dev.agitrubard.factory.service.impl;
+
+import dev.agitrubard.factory.service.LoginRateLimiter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login attempts with one {@link TokenBuckets} per client address and one per username, so both a burst
+ * from one client and credential stuffing against one account from many clients are cut off.
+ */
+@Service
+class LoginRateLimiterImpl implements LoginRateLimiter, DisposableBean {
+
+    private final TokenBuckets bucketsByClientAddress;
+    private final TokenBuckets bucketsByUsername;
+    private final ScheduledExecutorService evictor;
+
+    LoginRateLimiterImpl(
+            @Value("${login.rate-limit.client-address.capacity:100}") int clientAddressCapacity,
+            @Value("${login.rate-limit.client-address.refill-period:1m}") Duration clientAddressRefillPeriod,
+            @Value("${login.rate-limit.username.capacity:10}") int usernameCapacity,
+            @Value("${login.rate-limit.username.refill-period:1m}") Duration usernameRefillPeriod,
+            @Value("${login.rate-limit.eviction-interval:1m}") Duration evictionInterval) {
+
+        this.bucketsByClientAddress = new TokenBuckets(clientAddressCapacity, clientAddressRefillPeriod);
+        this.bucketsByUsername = new TokenBuckets(usernameCapacity, usernameRefillPeriod);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("login-rate-limit-evictor").daemon().factory()
+        );
+        this.evictor.scheduleWithFixedDelay(
+                this::evictIdle, evictionInterval.toMillis(), evictionInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public boolean tryAcquire(String username, String clientAddress) {
+        long nowNanos = System.nanoTime();
+
+        if (!bucketsByClientAddress.tryAcquire(clientAddress, nowNanos)) {
+            return false;
+        }
+
+        String normalizedUsername = username != null ? username.toLowerCase(Locale.ROOT) : null;
+        return bucketsByUsername.tryAcquire(normalizedUsername, nowNanos);
+    }
+
+    private void evictIdle() {
+        long nowNanos = System.nanoTime();
+        bucketsByClientAddress.evictIdle(nowNanos);
+        bucketsByUsername.evictIdle(nowNanos);
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+    }
+
+}
@@ -2,8 +2,12 @@ package dev.agitrubard.factory.service.impl;
 
 import dev.agitrubard.factory.model.entity.UserEntity;
 import dev.agitrubard.factory.model.request.LoginRequest;
+import dev.agitrubard.factory.model.response.LoginResponse;
 import dev.agitrubard.factory.repository.UserRepository;
+import dev.agitrubard.factory.service.AccessTokenService;
 import dev.agitrubard.factory.service.LoginService;
+import dev.agitrubard.factory.service.PasswordHashService;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationChallengeService;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationServiceFactory;
 import org.springframework.stereotype.Service;
@@ -14,33 +18,64 @@ import java.util.Optional;
 public class LoginServiceImpl implements LoginService {
 
     private final UserRepository userRepository;
+    private final PasswordHashService passwordHashService;
     private final TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory;
+    private final TwoFactorAuthenticationChallengeService twoFactorAuthenticationChallengeService;
+    private final AccessTokenService accessTokenService;
+
+    public LoginServiceImpl(UserRepository userRepository,
+                            PasswordHashService passwordHashService,
+                            TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory,
+                            TwoFactorAuthenticationChallengeService twoFactorAuthenticationChallengeService,
+                            AccessTokenService accessTokenService) {
 
-    public LoginServiceImpl(UserRepository userRepository, TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory) {
         this.userRepository = userRepository;
+        this.passwordHashService = passwordHashService;
         this.twoFactorAuthenticationServiceFactory = twoFactorAuthenticationServiceFactory;
+        this.twoFactorAuthenticationChallengeService = twoFactorAuthenticationChallengeService;
+        this.accessTokenService = accessTokenService;
     }
 
     @Override
-    public String login(LoginRequest loginRequest) {
+    public LoginResponse login(LoginRequest loginRequest) {
 
         Optional<UserEntity> userEntity = userRepository.findByUsername(loginRequest.username());
 
         if (userEntity.isEmpty()) {
-            return "User not found!";
+            return LoginResponse.of("User not found!");
         }
 
-        if (!userEntity.get().getPassword().equals(loginRequest.password())) {
-            return "Invalid password!";
+        try {
+            if (!passwordHashService.matches(loginRequest.password(), userEntity.get().getPassword())) {
+                return LoginResponse.of("Invalid password!");
+            }
+
+            this.rehashIfNeeded(userEntity.get(), loginRequest.password());
+
+            if (userEntity.get().isTwoFactorAuthenticationNotEnabled()) {
+                String accessToken = accessTokenService.issue(userEntity.get().getUsername());
+                return LoginResponse.authenticated("Login success!", accessToken);
+            }
+
+            TwoFactorAuthenticationService twoFactorAuthenticationService = twoFactorAuthenticationServiceFactory
+                    .create(userEntity.get().getTwoFactorAuthenticationType());
+
+            String challengeId = twoFactorAuthenticationChallengeService
+                    .challenge(userEntity.get(), twoFactorAuthenticationService);
+            return LoginResponse.challenged(twoFactorAuthenticationService.authenticate(), challengeId);
+        } catch (IllegalStateException exception) {
+            return LoginResponse.of(exception.getMessage());
         }
+    }
+
+    private void rehashIfNeeded(UserEntity userEntity, String password) {
 
-        if (userEntity.get().isTwoFactorAuthenticationNotEnabled()) {
-            return "Login success!";
+        if (!passwordHashService.needsRehash(userEntity.getPassword())) {
+            return;
         }
 
-        TwoFactorAuthenticationService twoFactorAuthenticationService = twoFactorAuthenticationServiceFactory
-                .create(userEntity.get().getTwoFactorAuthenticationType());
-        return twoFactorAuthenticationService.authenticate();
+        // The stored instance is shared with concurrent readers, so the new hash goes into a copy
+        userRepository.update(userEntity.withPassword(passwordHashService.hash(password)));
     }
 
 }
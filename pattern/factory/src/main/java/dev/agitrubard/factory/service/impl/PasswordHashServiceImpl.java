@@ -0,0 +1,172 @@
+package dev.agitrubard.factory.service.impl;
+
+import dev.agitrubard.factory.service.PasswordHashService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PBKDF2 with HMAC-SHA256 {@link PasswordHashService}. Every hash carries the cost it was computed with, so
+ * {@code password.hash.iterations} can be raised at any time; outdated hashes are recomputed on the next login.
+ */
+@Service
+class PasswordHashServiceImpl implements PasswordHashService {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String SEPARATOR = "$";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final AsyncTaskExecutor passwordHashExecutor;
+    private final int iterations;
+    private final Duration timeout;
+
+    PasswordHashServiceImpl(@Qualifier("passwordHashExecutor") AsyncTaskExecutor passwordHashExecutor,
+                            @Value("${password.hash.iterations:600000}") int iterations,
+                            @Value("${password.hash.timeout:5s}") Duration timeout) {
+
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Password hash iterations must be positive");
+        }
+
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.iterations = iterations;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = this.salt();
+        return this.format(salt, this.await(this.submit(password, salt, iterations)));
+    }
+
+    /**
+     * Submits every derivation before waiting, and cancels the submitted ones if the queue fills part way.
+     */
+    @Override
+    public List<String> hashAll(List<String> passwords) {
+
+        List<byte[]> salts = new ArrayList<>(passwords.size());
+        List<Future<byte[]>> hashes = new ArrayList<>(passwords.size());
+        try {
+            for (String password : passwords) {
+                byte[] salt = this.salt();
+                salts.add(salt);
+                hashes.add(this.submit(password, salt, iterations));
+            }
+
+            List<String> passwordHashes = new ArrayList<>(passwords.size());
+            for (int i = 0; i < hashes.size(); i++) {
+                passwordHashes.add(this.format(salts.get(i), this.await(hashes.get(i))));
+            }
+            return passwordHashes;
+        } catch (IllegalStateException exception) {
+            hashes.forEach(hash -> hash.cancel(true));
+            throw exception;
+        }
+    }
+
+    private byte[] salt() {
+        byte[] salt = new byte[SALT_LENGTH];
+        secureRandom.nextBytes(salt);
+        return salt;
+    }
+
+    private String format(byte[] salt, byte[] hash) {
+        return PREFIX + SEPARATOR + iterations + SEPARATOR + ENCODER.encodeToString(salt)
+                + SEPARATOR + ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String password, String passwordHash) {
+
+        if (password == null || passwordHash == null || !isHashed(passwordHash)) {
+            return false;
+        }
+
+        String[] parts = passwordHash.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+
+        try {
+            int hashIterations = Integer.parseInt(parts[1]);
+            byte[] salt = DECODER.decode(parts[2]);
+            byte[] expectedHash = DECODER.decode(parts[3]);
+            return MessageDigest.isEqual(expectedHash, this.derive(password, salt, hashIterations));
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String passwordHash) {
+
+        return passwordHash == null || !passwordHash.startsWith(PREFIX + SEPARATOR + iterations + SEPARATOR);
+    }
+
+    private static boolean isHashed(String passwordHash) {
+        return passwordHash.startsWith(PREFIX + SEPARATOR);
+    }
+
+    private byte[] derive(String password, byte[] salt, int hashIterations) {
+        return this.await(this.submit(password, salt, hashIterations));
+    }
+
+    private Future<byte[]> submit(String password, byte[] salt, int hashIterations) {
+        try {
+            return passwordHashExecutor.submit(() -> pbkdf2(password, salt, hashIterations));
+        } catch (TaskRejectedException exception) {
+            throw new IllegalStateException("Too many login requests, please try again later!", exception);
+        }
+    }
+
+    private byte[] await(Future<byte[]> hash) {
+        try {
+            return hash.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            hash.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing the password", exception);
+        } catch (TimeoutException exception) {
+            hash.cancel(true);
+            throw new IllegalStateException("Too many login requests, please try again later!", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Password could not be hashed", exception.getCause());
+        }
+    }
+
+    static byte[] pbkdf2(String password, byte[] salt, int iterations) throws GeneralSecurityException {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_LENGTH * Byte.SIZE);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM)
+                    .generateSecret(keySpec)
+                    .getEncoded();
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+}
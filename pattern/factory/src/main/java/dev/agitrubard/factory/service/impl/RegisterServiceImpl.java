@@ -1,43 +1,248 @@
 package dev.agitrubard.factory.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
 import dev.agitrubard.factory.model.entity.UserEntity;
 import dev.agitrubard.factory.model.request.RegisterRequest;
+import dev.agitrubard.factory.model.response.RegisterBulkResponse;
 import dev.agitrubard.factory.repository.UserRepository;
+import dev.agitrubard.factory.service.PasswordHashService;
 import dev.agitrubard.factory.service.RegisterService;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationServiceFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 class RegisterServiceImpl implements RegisterService {
 
     private final UserRepository userRepository;
+    private final PasswordHashService passwordHashService;
     private final TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+    private final ObjectReader registerRequestReader;
+    private final int bulkBatchSize;
+
+    public RegisterServiceImpl(UserRepository userRepository,
+                               PasswordHashService passwordHashService,
+                               TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory,
+                               TimeOrderedIdGenerator timeOrderedIdGenerator,
+                               ObjectMapper objectMapper,
+                               @Value("${register.bulk.batch-size:50}") int bulkBatchSize) {
+
+        if (bulkBatchSize < 1) {
+            throw new IllegalArgumentException("Bulk registration batch size must be positive");
+        }
 
-    public RegisterServiceImpl(UserRepository userRepository, TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory) {
         this.userRepository = userRepository;
+        this.passwordHashService = passwordHashService;
         this.twoFactorAuthenticationServiceFactory = twoFactorAuthenticationServiceFactory;
+        this.timeOrderedIdGenerator = timeOrderedIdGenerator;
+        this.registerRequestReader = objectMapper.readerFor(RegisterRequest.class);
+        this.bulkBatchSize = bulkBatchSize;
     }
 
     @Override
     public String register(RegisterRequest registerRequest) {
 
-        UserEntity userEntity = new UserEntity(
-                UUID.randomUUID().toString(),
-                registerRequest.username(),
-                registerRequest.password(),
-                registerRequest.emailAddress(),
-                registerRequest.phoneNumber(),
-                registerRequest.twoFactorAuthenticationType()
-        );
+        if (registerRequest.password() == null) {
+            return "Password is required!";
+        }
+
+        // Skips hashing for a username that is taken anyway, save still claims the username atomically
+        if (userRepository.findByUsername(registerRequest.username()).isPresent()) {
+            return "Username is already taken!";
+        }
+
+        try {
+            UserEntity userEntity = new UserEntity(
+                    timeOrderedIdGenerator.nextUuid().toString(),
+                    registerRequest.username(),
+                    passwordHashService.hash(registerRequest.password()),
+                    registerRequest.emailAddress(),
+                    registerRequest.phoneNumber(),
+                    registerRequest.twoFactorAuthenticationType()
+            );
 
-        userRepository.save(userEntity);
+            userRepository.save(userEntity);
+        } catch (IllegalArgumentException | IllegalStateException exception) {
+            return exception.getMessage();
+        }
 
         TwoFactorAuthenticationService twoFactorAuthenticationService = twoFactorAuthenticationServiceFactory
                 .create(registerRequest.twoFactorAuthenticationType());
         return twoFactorAuthenticationService.authenticate();
     }
 
+    @Override
+    public void registerAll(InputStream inputStream, Consumer<List<RegisterBulkResponse>> resultConsumer) {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<String> rows = new ArrayList<>(bulkBatchSize);
+        int index = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                rows.add(line);
+                if (rows.size() == bulkBatchSize) {
+                    resultConsumer.accept(this.registerBatch(index, rows));
+                    index += rows.size();
+                    rows.clear();
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        if (!rows.isEmpty()) {
+            resultConsumer.accept(this.registerBatch(index, rows));
+        }
+    }
+
+    /**
+     * Rejects invalid, duplicate and taken rows before any password is hashed, then hashes the rest in parallel.
+     */
+    private List<RegisterBulkResponse> registerBatch(int firstIndex, List<String> rows) {
+
+        RegisterBulkResponse[] results = new RegisterBulkResponse[rows.size()];
+        List<Integer> accepted = new ArrayList<>(rows.size());
+        List<RegisterRequest> acceptedRequests = new ArrayList<>(rows.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emailAddresses = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            int index = firstIndex + i;
+
+            RegisterRequest registerRequest;
+            try {
+                registerRequest = registerRequestReader.readValue(rows.get(i));
+            } catch (JsonProcessingException exception) {
+                results[i] = RegisterBulkResponse.failed(index, null, "Malformed row!");
+                continue;
+            }
+
+            String error = this.validate(registerRequest, usernames, emailAddresses, phoneNumbers);
+            if (error != null) {
+                results[i] = RegisterBulkResponse.failed(index, registerRequest.username(), error);
+                continue;
+            }
+
+            accepted.add(i);
+            acceptedRequests.add(registerRequest);
+        }
+
+        List<String> passwordHashes;
+        try {
+            passwordHashes = passwordHashService.hashAll(acceptedRequests.stream()
+                    .map(RegisterRequest::password)
+                    .toList());
+        } catch (IllegalStateException exception) {
+            for (int i = 0; i < accepted.size(); i++) {
+                int row = accepted.get(i);
+                results[row] = RegisterBulkResponse.failed(
+                        firstIndex + row, acceptedRequests.get(i).username(), exception.getMessage()
+                );
+            }
+            return Arrays.asList(results);
+        }
+
+        List<UserEntity> userEntities = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            RegisterRequest registerRequest = acceptedRequests.get(i);
+            userEntities.add(new UserEntity(
+                    timeOrderedIdGenerator.nextUuid().toString(),
+                    registerRequest.username(),
+                    passwordHashes.get(i),
+                    registerRequest.emailAddress(),
+                    registerRequest.phoneNumber(),
+                    registerRequest.twoFactorAuthenticationType()
+            ));
+        }
+
+        List<String> errors;
+        try {
+            errors = userRepository.saveAll(userEntities);
+        } catch (IllegalStateException exception) {
+            errors = Collections.nCopies(userEntities.size(), exception.getMessage());
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            int row = accepted.get(i);
+            UserEntity userEntity = userEntities.get(i);
+            results[row] = errors.get(i) == null
+                    ? RegisterBulkResponse.registered(firstIndex + row, userEntity.getUsername(), userEntity.getId())
+                    : RegisterBulkResponse.failed(firstIndex + row, userEntity.getUsername(), errors.get(i));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Returns why the row cannot be registered, or {@code null} after recording its values as used in the batch.
+     */
+    private String validate(RegisterRequest registerRequest,
+                            Set<String> usernames,
+                            Set<String> emailAddresses,
+                            Set<String> phoneNumbers) {
+
+        if (registerRequest.username() == null) {
+            return "Username is required!";
+        }
+
+        if (registerRequest.password() == null) {
+            return "Password is required!";
+        }
+
+        String emailAddress = registerRequest.emailAddress() != null
+                ? registerRequest.emailAddress().toLowerCase(Locale.ROOT)
+                : null;
+        String phoneNumber = registerRequest.phoneNumber();
+
+        if (usernames.contains(registerRequest.username())
+                || userRepository.findByUsername(registerRequest.username()).isPresent()) {
+            return "Username is already taken!";
+        }
+
+        if (emailAddress != null && (emailAddresses.contains(emailAddress)
+                || userRepository.findByEmailAddress(emailAddress).isPresent())) {
+            return "Email address is already taken!";
+        }
+
+        if (phoneNumber != null && (phoneNumbers.contains(phoneNumber)
+                || userRepository.findByPhoneNumber(phoneNumber).isPresent())) {
+            return "Phone number is already taken!";
+        }
+
+        usernames.add(registerRequest.username());
+        if (emailAddress != null) {
+            emailAddresses.add(emailAddress);
+        }
+        if (phoneNumber != null) {
+            phoneNumbers.add(phoneNumber);
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,52 @@
+package dev.agitrubard.factory.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets by key, each refilled at {@code capacity} tokens per {@code refillPeriod}. A bucket is one
+ * {@link AtomicLong} holding the time it is full again (generic cell rate algorithm), taken with a compare-and-set.
+ */
+class TokenBuckets {
+
+    private final Map<String, AtomicLong> fullAtNanosByKey = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    TokenBuckets(int capacity, Duration refillPeriod) {
+
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Token bucket capacity and refill period must be positive");
+        }
+
+        this.intervalNanos = Math.max(1L, refillPeriod.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    boolean tryAcquire(String key, long nowNanos) {
+
+        if (key == null) {
+            return true;
+        }
+
+        AtomicLong fullAtNanos = fullAtNanosByKey.computeIfAbsent(key, ignored -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = fullAtNanos.get();
+            long next = Math.max(current - nowNanos, 0L) + intervalNanos;
+            if (next > burstNanos) {
+                return false;
+            }
+            if (fullAtNanos.compareAndSet(current, nowNanos + next)) {
+                return true;
+            }
+        }
+    }
+
+    void evictIdle(long nowNanos) {
+        // A token taken while its bucket is evicted is lost, which lets that key through once more at most
+        fullAtNanosByKey.values().removeIf(fullAtNanos -> fullAtNanos.get() - nowNanos <= 0L);
+    }
+
+}
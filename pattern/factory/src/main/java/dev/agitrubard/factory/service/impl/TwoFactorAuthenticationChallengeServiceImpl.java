@@ -0,0 +1,132 @@
+package dev.agitrubard.factory.service.impl;
+
+import dev.agitrubard.factory.model.entity.TwoFactorAuthenticationChallengeEntity;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.request.VerifyRequest;
+import dev.agitrubard.factory.model.response.LoginResponse;
+import dev.agitrubard.factory.repository.TwoFactorAuthenticationChallengeRepository;
+import dev.agitrubard.factory.service.AccessTokenService;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationChallengeService;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores a challenge with a random six-digit code and sends the code on the {@code twoFactorAuthenticationExecutor},
+ * so the login returns without waiting for the provider.
+ */
+@Service
+class TwoFactorAuthenticationChallengeServiceImpl implements TwoFactorAuthenticationChallengeService {
+
+    private static final int CODE_BOUND = 1_000_000;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final TwoFactorAuthenticationChallengeRepository challengeRepository;
+    private final TaskExecutor twoFactorAuthenticationExecutor;
+    private final AccessTokenService accessTokenService;
+    private final Duration timeToLive;
+    private final int maxAttempts;
+
+    TwoFactorAuthenticationChallengeServiceImpl(
+            TwoFactorAuthenticationChallengeRepository challengeRepository,
+            @Qualifier("twoFactorAuthenticationExecutor") TaskExecutor twoFactorAuthenticationExecutor,
+            AccessTokenService accessTokenService,
+            @Value("${two-factor-authentication.challenge.time-to-live:5m}") Duration timeToLive,
+            @Value("${two-factor-authentication.challenge.max-attempts:3}") int maxAttempts) {
+
+        this.challengeRepository = challengeRepository;
+        this.twoFactorAuthenticationExecutor = twoFactorAuthenticationExecutor;
+        this.accessTokenService = accessTokenService;
+        this.timeToLive = timeToLive;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public String challenge(UserEntity userEntity, TwoFactorAuthenticationService twoFactorAuthenticationService) {
+
+        TwoFactorAuthenticationChallengeEntity challengeEntity = new TwoFactorAuthenticationChallengeEntity(
+                UUID.randomUUID().toString(),
+                userEntity.getUsername(),
+                String.format("%06d", secureRandom.nextInt(CODE_BOUND)),
+                Instant.now().plus(timeToLive)
+        );
+        challengeRepository.save(challengeEntity);
+
+        try {
+            twoFactorAuthenticationExecutor.execute(() -> this.sendCode(
+                    userEntity, twoFactorAuthenticationService, challengeEntity
+            ));
+        } catch (TaskRejectedException exception) {
+            challengeRepository.delete(challengeEntity);
+            throw new IllegalStateException("Too many authentication requests, please try again later!", exception);
+        }
+
+        return challengeEntity.getId();
+    }
+
+    /**
+     * Drops the challenge when the provider could not deliver the code, since it can never be verified.
+     */
+    private void sendCode(UserEntity userEntity,
+                          TwoFactorAuthenticationService twoFactorAuthenticationService,
+                          TwoFactorAuthenticationChallengeEntity challengeEntity) {
+
+        try {
+            twoFactorAuthenticationService.sendCode(userEntity, challengeEntity.getCode());
+        } catch (RuntimeException exception) {
+            challengeRepository.delete(challengeEntity);
+        }
+    }
+
+    @Override
+    public LoginResponse verify(VerifyRequest verifyRequest) {
+
+        Optional<TwoFactorAuthenticationChallengeEntity> challengeEntity = challengeRepository
+                .findById(verifyRequest.challengeId());
+
+        if (challengeEntity.isEmpty()) {
+            return LoginResponse.of("Challenge not found or expired!");
+        }
+
+        if (challengeEntity.get().attempt() > maxAttempts) {
+            challengeRepository.delete(challengeEntity.get());
+            return LoginResponse.of("Too many attempts!");
+        }
+
+        if (!isMatching(challengeEntity.get().getCode(), verifyRequest.code())) {
+            return LoginResponse.of("Invalid code!");
+        }
+
+        if (!challengeRepository.delete(challengeEntity.get())) {
+            return LoginResponse.of("Challenge not found or expired!");
+        }
+
+        String accessToken = accessTokenService.issue(challengeEntity.get().getUsername());
+        return LoginResponse.authenticated("Login success!", accessToken);
+    }
+
+    private static boolean isMatching(String expectedCode, String code) {
+
+        if (code == null) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(
+                expectedCode.getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+}
@@ -1,27 +1,40 @@
 package dev.agitrubard.factory.service.impl;
 
+import dev.agitrubard.common.registry.StrategyRegistry;
 import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
 import dev.agitrubard.factory.service.TwoFactorAuthenticationServiceFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.List;
 
+/**
+ * Registers the providers by type once at startup, falling back to {@link TwoFactorAuthenticationType#EMAIL} when no
+ * type is given. Startup fails if a type has no provider or more than one.
+ */
 @Component
 class TwoFactorAuthenticationServiceFactoryImpl implements TwoFactorAuthenticationServiceFactory {
 
+    private static final TwoFactorAuthenticationType DEFAULT_TYPE = TwoFactorAuthenticationType.EMAIL;
+
+    private final StrategyRegistry<TwoFactorAuthenticationType, TwoFactorAuthenticationService> registry;
+
+    TwoFactorAuthenticationServiceFactoryImpl(List<TwoFactorAuthenticationService> twoFactorAuthenticationServices) {
+        this.registry = StrategyRegistry.of(
+                TwoFactorAuthenticationType.class,
+                twoFactorAuthenticationServices,
+                TwoFactorAuthenticationService::getType
+        );
+    }
+
     @Override
     public TwoFactorAuthenticationService create(TwoFactorAuthenticationType twoFactorAuthenticationType) {
 
-        TwoFactorAuthenticationType authenticationType = Optional.ofNullable(twoFactorAuthenticationType)
-                .orElse(TwoFactorAuthenticationType.EMAIL);
-
-        return switch (authenticationType) {
-            case PASSKEY -> new PassKeyAuthenticationServiceImpl();
-            case SMS -> new SmsAuthenticationServiceImpl();
-            case EMAIL -> new EmailAuthenticationServiceImpl();
-        };
+        if (twoFactorAuthenticationType == null) {
+            return registry.get(DEFAULT_TYPE);
+        }
 
+        return registry.get(twoFactorAuthenticationType);
     }
 
 }
@@ -1,22 +1,47 @@
 package dev.agitrubard.factory.controller;
 
+import dev.agitrubard.factory.model.entity.UserEntity;
 import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
 import dev.agitrubard.factory.model.request.LoginRequest;
 import dev.agitrubard.factory.model.request.RegisterRequest;
+import dev.agitrubard.factory.model.request.VerifyRequest;
+import dev.agitrubard.factory.repository.TwoFactorAuthenticationChallengeRepository;
+import dev.agitrubard.factory.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-@SpringBootTest
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+@SpringBootTest(properties = {
+        "downstream.simulated-latency=2s",
+        "password.hash.iterations=1000"
+})
 @AutoConfigureMockMvc
 @ExtendWith(MockitoExtension.class)
 class FactoryPatternEndToEndTest {
@@ -24,14 +49,39 @@ class FactoryPatternEndToEndTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private TwoFactorAuthenticationChallengeRepository challengeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
 
     private static final String REGISTER_ENDPOINT = "/api/v1/auth/register";
+    private static final String REGISTER_BULK_ENDPOINT = "/api/v1/auth/register/bulk";
     private static final String LOGIN_ENDPOINT = "/api/v1/auth/login";
+    private static final String VERIFY_ENDPOINT = "/api/v1/auth/verify";
+    private static final String ME_ENDPOINT = "/api/v1/auth/me";
+    private static final String LOGOUT_ENDPOINT = "/api/v1/auth/logout";
 
 
     private static final String PASSKEY_AUTHENTICATION_RESPONSE_MESSAGE = "User authenticating via Passkey...";
     private static final String EMAIL_AUTHENTICATION_RESPONSE_MESSAGE = "User authenticating via Email...";
     private static final String SMS_AUTHENTICATION_RESPONSE_MESSAGE = "User authenticating via SMS...";
+    private static final String USERNAME_TAKEN_RESPONSE_MESSAGE = "Username is already taken!";
+    private static final String EMAIL_ADDRESS_TAKEN_RESPONSE_MESSAGE = "Email address is already taken!";
+    private static final String PHONE_NUMBER_TAKEN_RESPONSE_MESSAGE = "Phone number is already taken!";
+    private static final String USER_NOT_FOUND_RESPONSE_MESSAGE = "User not found!";
+    private static final String LOGIN_SUCCESS_RESPONSE_MESSAGE = "Login success!";
+    private static final String INVALID_CODE_RESPONSE_MESSAGE = "Invalid code!";
+    private static final String TOO_MANY_ATTEMPTS_RESPONSE_MESSAGE = "Too many attempts!";
+    private static final String CHALLENGE_NOT_FOUND_RESPONSE_MESSAGE = "Challenge not found or expired!";
+    private static final String INVALID_PASSWORD_RESPONSE_MESSAGE = "Invalid password!";
+    private static final String LOGOUT_SUCCESS_RESPONSE_MESSAGE = "Logout success!";
+    private static final String INVALID_ACCESS_TOKEN_RESPONSE_MESSAGE = "Invalid or expired access token!";
+    private static final String TOO_MANY_LOGIN_ATTEMPTS_RESPONSE_MESSAGE = "Too many login attempts, please try again later!";
+    private static final String USER_REGISTERED_RESPONSE_MESSAGE = "User registered!";
+    private static final String MALFORMED_ROW_RESPONSE_MESSAGE = "Malformed row!";
+    private static final String PASSWORD_HASH_PREFIX = "pbkdf2-sha256$1000$";
 
 
     /**
@@ -178,6 +228,125 @@ class FactoryPatternEndToEndTest {
                         .value(SMS_AUTHENTICATION_RESPONSE_MESSAGE));
     }
 
+    @Test
+    void givenRegisterRequestWithTakenUsername_whenUserRegisters_thenReturnRelatedMessage() throws Exception {
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest(
+                "user1",
+                "1234",
+                "agitrubard5@software.eng",
+                "1234567895",
+                TwoFactorAuthenticationType.EMAIL
+        );
+
+        // Then
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                .post(REGISTER_ENDPOINT)
+                .content(registerRequest.toString())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockHttpServletRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(USERNAME_TAKEN_RESPONSE_MESSAGE));
+
+        // Verify
+        LoginRequest loginRequest = new LoginRequest(
+                "user1",
+                "password1"
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$")
+                        .value(PASSKEY_AUTHENTICATION_RESPONSE_MESSAGE));
+    }
+
+    @Test
+    void givenRegisterRequestWithTakenEmailAddressOrPhoneNumber_whenUserRegisters_thenReturnRelatedMessage() throws Exception {
+        // Given
+        RegisterRequest registerRequestWithTakenEmailAddress = new RegisterRequest(
+                "agitrubard6",
+                "1234",
+                "USER2@agitrubard.dev",
+                "1234567896",
+                TwoFactorAuthenticationType.EMAIL
+        );
+        RegisterRequest registerRequestWithTakenPhoneNumber = new RegisterRequest(
+                "agitrubard6",
+                "1234",
+                "agitrubard6@software.eng",
+                "5550000003",
+                TwoFactorAuthenticationType.EMAIL
+        );
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(REGISTER_ENDPOINT)
+                        .content(registerRequestWithTakenEmailAddress.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(EMAIL_ADDRESS_TAKEN_RESPONSE_MESSAGE));
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(REGISTER_ENDPOINT)
+                        .content(registerRequestWithTakenPhoneNumber.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(PHONE_NUMBER_TAKEN_RESPONSE_MESSAGE));
+
+        // Verify
+        LoginRequest loginRequest = new LoginRequest(
+                "agitrubard6",
+                "1234"
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(USER_NOT_FOUND_RESPONSE_MESSAGE));
+    }
+
+    @Test
+    void givenConcurrentRegisterRequestsWithSameUsername_whenUsersRegister_thenOnlyOneSucceeds() throws Exception {
+        // Given
+        int requestCount = 16;
+        List<Callable<String>> registrations = IntStream.range(0, requestCount)
+                .mapToObj(index -> new RegisterRequest(
+                        "agitrubard7",
+                        "1234",
+                        "agitrubard7-" + index + "@software.eng",
+                        "12345679" + String.format("%02d", index),
+                        TwoFactorAuthenticationType.SMS
+                ))
+                .<Callable<String>>map(registerRequest -> () -> mockMvc.perform(MockMvcRequestBuilders
+                                .post(REGISTER_ENDPOINT)
+                                .content(registerRequest.toString())
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .toList();
+
+        // Then
+        List<String> responses = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+            for (Future<String> future : executorService.invokeAll(registrations)) {
+                responses.add(future.get());
+            }
+        }
+
+        // Verify
+        Assertions.assertEquals(1, Collections.frequency(responses, SMS_AUTHENTICATION_RESPONSE_MESSAGE));
+        Assertions.assertEquals(requestCount - 1, Collections.frequency(responses, USERNAME_TAKEN_RESPONSE_MESSAGE));
+    }
+
 
     /**
      * End to end tests for the login endpoint
@@ -245,4 +414,369 @@ class FactoryPatternEndToEndTest {
                         .value(SMS_AUTHENTICATION_RESPONSE_MESSAGE));
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenRegisterRequest_whenUserRegisters_thenPasswordIsStoredHashed() throws Exception {
+
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest(
+                "agitrubard8",
+                "1234",
+                "agitrubard8@software.eng",
+                "1234567898",
+                null
+        );
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(REGISTER_ENDPOINT)
+                        .content(registerRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$")
+                        .value(EMAIL_AUTHENTICATION_RESPONSE_MESSAGE));
+
+        // Verify
+        String password = userRepository.findByUsername("agitrubard8").orElseThrow().getPassword();
+        Assertions.assertTrue(password.startsWith(PASSWORD_HASH_PREFIX));
+
+        LoginRequest invalidLoginRequest = new LoginRequest(
+                "agitrubard8",
+                "12345"
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(invalidLoginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(INVALID_PASSWORD_RESPONSE_MESSAGE));
+    }
+
+    @Test
+    void givenLoginRequestOfUserWithOutdatedPasswordHash_whenUserLogsIn_thenPasswordIsRehashed() throws Exception {
+
+        // Given
+        LoginRequest loginRequest = new LoginRequest(
+                "user3",
+                "password3"
+        );
+        UserEntity userEntity = userRepository.findByUsername("user3").orElseThrow();
+        userRepository.update(userEntity.withPassword(this.outdatedPasswordHash("password3")));
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$")
+                        .value(SMS_AUTHENTICATION_RESPONSE_MESSAGE));
+
+        // Verify
+        String password = userRepository.findByUsername("user3").orElseThrow().getPassword();
+        Assertions.assertTrue(password.startsWith(PASSWORD_HASH_PREFIX));
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$")
+                        .value(SMS_AUTHENTICATION_RESPONSE_MESSAGE));
+    }
+
+    @Test
+    void givenLoginRequestOfUserWithPlainTextPassword_whenUserLogsIn_thenReturnInvalidPassword() throws Exception {
+
+        // Given
+        userRepository.save(new UserEntity(
+                UUID.randomUUID().toString(),
+                "plaintext",
+                "password",
+                "plaintext@software.eng",
+                "5552000001",
+                null
+        ));
+        LoginRequest loginRequest = new LoginRequest(
+                "plaintext",
+                "password"
+        );
+
+        // Then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(INVALID_PASSWORD_RESPONSE_MESSAGE));
+    }
+
+    @Test
+    void givenLoginRequests_whenUsernameRateLimitIsExceeded_thenRejectWithTooManyRequests() throws Exception {
+
+        // Given
+        LoginRequest loginRequest = new LoginRequest(
+                "throttled",
+                "1234"
+        );
+
+        // Then
+        for (int attempt = 0; attempt < 10; attempt++) {
+            mockMvc.perform(MockMvcRequestBuilders
+                            .post(LOGIN_ENDPOINT)
+                            .content(loginRequest.toString())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content()
+                            .string(USER_NOT_FOUND_RESPONSE_MESSAGE));
+        }
+
+        // Verify
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(TOO_MANY_LOGIN_ATTEMPTS_RESPONSE_MESSAGE));
+    }
+
+
+    /**
+     * End to end tests for the me and logout endpoints
+     */
+    @Test
+    void givenAccessTokenOfLogin_whenUserCallsMeAndLogsOut_thenTokenIsAcceptedUntilLogout() throws Exception {
+
+        // Given
+        RegisterRequest registerRequest = new RegisterRequest(
+                "agitrubard9",
+                "1234",
+                "agitrubard9@software.eng",
+                "1234567899",
+                null
+        );
+        mockMvc.perform(MockMvcRequestBuilders
+                .post(REGISTER_ENDPOINT)
+                .content(registerRequest.toString())
+                .contentType(MediaType.APPLICATION_JSON));
+
+        LoginRequest loginRequest = new LoginRequest(
+                "agitrubard9",
+                "1234"
+        );
+        String accessToken = mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(LOGIN_SUCCESS_RESPONSE_MESSAGE))
+                .andExpect(MockMvcResultMatchers.header()
+                        .exists(AuthController.ACCESS_TOKEN_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(AuthController.ACCESS_TOKEN_HEADER);
+
+        // Then
+        for (int request = 0; request < 2; request++) {
+            mockMvc.perform(MockMvcRequestBuilders
+                            .get(ME_ENDPOINT)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                    .andDo(MockMvcResultHandlers.print())
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content()
+                            .string("agitrubard9"));
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGOUT_ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(LOGOUT_SUCCESS_RESPONSE_MESSAGE));
+
+        // Verify
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(ME_ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(INVALID_ACCESS_TOKEN_RESPONSE_MESSAGE));
+
+        String tamperedAccessToken = accessToken.substring(0, accessToken.length() - 2) + "AA";
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(ME_ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tamperedAccessToken))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(ME_ENDPOINT))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+
+    /**
+     * End to end tests for the verify endpoint
+     */
+    @Test
+    void givenLoginRequest_whenProviderIsSlow_thenReturnChallengeIdWithoutWaitingForProvider() throws Exception {
+
+        // Given
+        LoginRequest loginRequest = new LoginRequest(
+                "user2",
+                "password2"
+        );
+
+        // Then
+        long startNanos = System.nanoTime();
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$")
+                        .value(EMAIL_AUTHENTICATION_RESPONSE_MESSAGE))
+                .andExpect(MockMvcResultMatchers.header()
+                        .exists(AuthController.CHALLENGE_ID_HEADER))
+                .andReturn();
+        Duration loginDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // Verify
+        Assertions.assertTrue(loginDuration.compareTo(Duration.ofSeconds(1)) < 0);
+
+        String challengeId = mvcResult.getResponse().getHeader(AuthController.CHALLENGE_ID_HEADER);
+        Assertions.assertTrue(challengeRepository.findById(challengeId).isPresent());
+    }
+
+    @Test
+    void givenVerifyRequestWithChallengeCode_whenUserVerifies_thenLoginSucceedsOnce() throws Exception {
+
+        // Given
+        String challengeId = this.loginWithChallenge("user3", "password3");
+        String code = challengeRepository.findById(challengeId).orElseThrow().getCode();
+
+        // Then
+        this.verify(new VerifyRequest(challengeId, this.otherCode(code)), INVALID_CODE_RESPONSE_MESSAGE);
+        String accessToken = this.verify(new VerifyRequest(challengeId, code), LOGIN_SUCCESS_RESPONSE_MESSAGE)
+                .getResponse()
+                .getHeader(AuthController.ACCESS_TOKEN_HEADER);
+
+        // Verify
+        Assertions.assertNotNull(accessToken);
+        this.verify(new VerifyRequest(challengeId, code), CHALLENGE_NOT_FOUND_RESPONSE_MESSAGE);
+        this.verify(new VerifyRequest("unknown", code), CHALLENGE_NOT_FOUND_RESPONSE_MESSAGE);
+    }
+
+    @Test
+    void givenVerifyRequestsWithWrongCode_whenAttemptsAreExceeded_thenChallengeIsDropped() throws Exception {
+
+        // Given
+        String challengeId = this.loginWithChallenge("user1", "password1");
+        String code = challengeRepository.findById(challengeId).orElseThrow().getCode();
+
+        // Then
+        for (int attempt = 0; attempt < 3; attempt++) {
+            this.verify(new VerifyRequest(challengeId, this.otherCode(code)), INVALID_CODE_RESPONSE_MESSAGE);
+        }
+        this.verify(new VerifyRequest(challengeId, code), TOO_MANY_ATTEMPTS_RESPONSE_MESSAGE);
+
+        // Verify
+        this.verify(new VerifyRequest(challengeId, code), CHALLENGE_NOT_FOUND_RESPONSE_MESSAGE);
+    }
+
+    @Test
+    void givenNdjsonRegisterRequests_whenUsersRegisterInBulk_thenReturnResultPerRow() throws Exception {
+
+        // Given
+        String content = String.join("\n",
+                new RegisterRequest("bulk1", "1234", "bulk1@software.eng", "5551000001", null).toString(),
+                new RegisterRequest("bulk2", "1234", "BULK1@software.eng", "5551000002", null).toString(),
+                new RegisterRequest("user1", "1234", "bulk3@software.eng", "5551000003", null).toString(),
+                "{\"username\": ",
+                "",
+                new RegisterRequest(
+                        "bulk4", "1234", "bulk4@software.eng", "5551000004", TwoFactorAuthenticationType.PASSKEY
+                ).toString()
+        );
+
+        // Then
+        String response = mockMvc.perform(MockMvcRequestBuilders
+                        .post(REGISTER_BULK_ENDPOINT)
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Verify
+        List<String> rows = response.lines().toList();
+        Assertions.assertEquals(5, rows.size());
+        Assertions.assertTrue(rows.get(0).contains("\"index\":0,\"username\":\"bulk1\""));
+        Assertions.assertTrue(rows.get(0).contains(USER_REGISTERED_RESPONSE_MESSAGE));
+        Assertions.assertTrue(rows.get(1).contains(EMAIL_ADDRESS_TAKEN_RESPONSE_MESSAGE));
+        Assertions.assertTrue(rows.get(2).contains(USERNAME_TAKEN_RESPONSE_MESSAGE));
+        Assertions.assertTrue(rows.get(3).contains("\"index\":3"));
+        Assertions.assertTrue(rows.get(3).contains(MALFORMED_ROW_RESPONSE_MESSAGE));
+        Assertions.assertTrue(rows.get(4).contains("\"index\":4,\"username\":\"bulk4\""));
+        Assertions.assertTrue(rows.get(4).contains(USER_REGISTERED_RESPONSE_MESSAGE));
+
+        String id = userRepository.findByUsername("bulk1").orElseThrow().getId();
+        Assertions.assertEquals(7, UUID.fromString(id).version());
+        Assertions.assertTrue(rows.get(0).contains(id));
+        Assertions.assertTrue(userRepository.findByUsername("bulk2").isEmpty());
+
+        LoginRequest loginRequest = new LoginRequest("bulk4", "1234");
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(PASSKEY_AUTHENTICATION_RESPONSE_MESSAGE));
+    }
+
+    private String loginWithChallenge(String username, String password) throws Exception {
+        LoginRequest loginRequest = new LoginRequest(username, password);
+
+        return mockMvc.perform(MockMvcRequestBuilders
+                        .post(LOGIN_ENDPOINT)
+                        .content(loginRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header()
+                        .exists(AuthController.CHALLENGE_ID_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(AuthController.CHALLENGE_ID_HEADER);
+    }
+
+    private MvcResult verify(VerifyRequest verifyRequest, String expectedResponseMessage) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders
+                        .post(VERIFY_ENDPOINT)
+                        .content(verifyRequest.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(expectedResponseMessage))
+                .andReturn();
+    }
+
+    private String outdatedPasswordHash(String password) throws GeneralSecurityException {
+        byte[] salt = new byte[16];
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, 1, 256);
+        byte[] hash = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+                .generateSecret(keySpec)
+                .getEncoded();
+
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return "pbkdf2-sha256$1$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    private String otherCode(String code) {
+        return code.equals("000000") ? "000001" : "000000";
+    }
+
+}
@@ -0,0 +1,169 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class UserFileRepositoryImplTest {
+
+    private static final TimeOrderedIdGenerator TIME_ORDERED_ID_GENERATOR = new TimeOrderedIdGenerator();
+
+    @TempDir
+    private Path directory;
+
+    private final List<UserFileRepositoryImpl> openedUserFileRepositories = new ArrayList<>();
+
+    @AfterEach
+    void destroyOpenedRepositories() throws InterruptedException {
+        for (UserFileRepositoryImpl userFileRepository : openedUserFileRepositories.reversed()) {
+            userFileRepository.destroy();
+        }
+    }
+
+    @Test
+    void givenSavedAndUpdatedUsers_whenRepositoryReopenedAfterCrash_thenUsersAreReplayedFromTheLog() {
+        // Given
+        UserFileRepositoryImpl userFileRepository = this.open();
+        UserEntity userEntity = this.user("agitrubard", "agitrubard@software.eng", "5551234567");
+        userFileRepository.save(userEntity);
+        userFileRepository.update(userEntity.withPassword("rehashed"));
+
+        // When
+        UserFileRepositoryImpl reopenedUserFileRepository = this.open();
+
+        // Then
+        UserEntity recoveredUserEntity = reopenedUserFileRepository.findByUsername("agitrubard").orElseThrow();
+        Assertions.assertEquals(userEntity.getId(), recoveredUserEntity.getId());
+        Assertions.assertEquals("rehashed", recoveredUserEntity.getPassword());
+        Assertions.assertEquals(TwoFactorAuthenticationType.SMS, recoveredUserEntity.getTwoFactorAuthenticationType());
+        Assertions.assertTrue(reopenedUserFileRepository.findByEmailAddress("AGITRUBARD@software.eng").isPresent());
+        Assertions.assertTrue(reopenedUserFileRepository.findByPhoneNumber("5551234567").isPresent());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reopenedUserFileRepository.save(
+                this.user("agitrubard", "other@software.eng", "5557654321")
+        ));
+    }
+
+    @Test
+    void givenSnapshotAndLaterWrites_whenRepositoryReopened_thenSnapshotIsLoadedAndLogTailReplayed() throws Exception {
+        // Given
+        UserFileRepositoryImpl userFileRepository = this.open();
+        userFileRepository.save(this.user("snapshotted", "snapshotted@software.eng", "5551000001"));
+        userFileRepository.snapshot();
+        userFileRepository.save(this.user("logged", "logged@software.eng", "5551000002"));
+        List<Path> segments = UserWriteAheadLog.segments(directory);
+
+        // When
+        UserFileRepositoryImpl reopenedUserFileRepository = this.open();
+
+        // Then
+        Assertions.assertTrue(Files.exists(directory.resolve(UserSnapshot.FILE_NAME)));
+        Assertions.assertEquals(1, segments.size());
+        Assertions.assertTrue(reopenedUserFileRepository.findByUsername("snapshotted").isPresent());
+        Assertions.assertTrue(reopenedUserFileRepository.findByUsername("logged").isPresent());
+
+        this.close(reopenedUserFileRepository);
+        Assertions.assertEquals(0L, Files.size(UserWriteAheadLog.segments(directory).getFirst()));
+        Assertions.assertTrue(this.open().findByUsername("logged").isPresent());
+    }
+
+    @Test
+    void givenTornFrameAtTheEndOfTheLog_whenRepositoryReopened_thenOnlyCompleteFramesAreReplayed() throws IOException {
+        // Given
+        UserFileRepositoryImpl userFileRepository = this.open();
+        userFileRepository.save(this.user("agitrubard", "agitrubard@software.eng", "5551234567"));
+        Path segment = UserWriteAheadLog.segments(directory).getLast();
+        long validLength = Files.size(segment);
+
+        try (FileChannel fileChannel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            fileChannel.write(ByteBuffer.allocate(12).putInt(64).putInt(0xCAFEBABE).putInt(42).flip());
+        }
+
+        // When
+        UserFileRepositoryImpl reopenedUserFileRepository = this.open();
+
+        // Then
+        Assertions.assertEquals(validLength, Files.size(segment));
+        Assertions.assertTrue(reopenedUserFileRepository.findByUsername("agitrubard").isPresent());
+
+        reopenedUserFileRepository.save(this.user("afterCrash", "after-crash@software.eng", "5559876543"));
+        Assertions.assertTrue(this.open().findByUsername("afterCrash").isPresent());
+    }
+
+    @Test
+    void givenBatchWithTakenAndChangedUsers_whenSavedAndUpdated_thenOnlyValidWritesAreRecovered() {
+        // Given
+        UserFileRepositoryImpl userFileRepository = this.open();
+        UserEntity userEntity = this.user("agitrubard", "agitrubard@software.eng", "5551234567");
+        List<UserEntity> userEntities = List.of(
+                userEntity,
+                this.user("duplicate", "AGITRUBARD@software.eng", "5551000003"),
+                this.user("second", "second@software.eng", "5551000004")
+        );
+
+        // When
+        List<String> errors = userFileRepository.saveAll(userEntities);
+        UserEntity changedUserEntity = new UserEntity(
+                userEntity.getId(),
+                "agitrubard",
+                "password",
+                "changed@software.eng",
+                "5551234567",
+                TwoFactorAuthenticationType.SMS
+        );
+
+        // Then
+        Assertions.assertEquals(Arrays.asList(null, "Email address is already taken!", null), errors);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> userFileRepository.update(changedUserEntity));
+        IllegalArgumentException exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> userFileRepository.update(this.user("agitrubard", "agitrubard@software.eng", "5551234567"))
+        );
+        Assertions.assertEquals("User id cannot be changed!", exception.getMessage());
+
+        UserFileRepositoryImpl reopenedUserFileRepository = this.open();
+        Assertions.assertEquals("agitrubard@software.eng", reopenedUserFileRepository.findByUsername("agitrubard")
+                .map(UserEntity::getEmailAddress)
+                .orElseThrow());
+        Assertions.assertTrue(reopenedUserFileRepository.findByUsername("duplicate").isEmpty());
+        Assertions.assertTrue(reopenedUserFileRepository.findByUsername("second").isPresent());
+    }
+
+    private UserFileRepositoryImpl open() {
+        UserFileRepositoryImpl userFileRepository = new UserFileRepositoryImpl(directory, Duration.ofHours(1));
+        openedUserFileRepositories.add(userFileRepository);
+        return userFileRepository;
+    }
+
+    private void close(UserFileRepositoryImpl userFileRepository) throws InterruptedException {
+        openedUserFileRepositories.remove(userFileRepository);
+        userFileRepository.destroy();
+    }
+
+    private UserEntity user(String username, String emailAddress, String phoneNumber) {
+        return new UserEntity(
+                TIME_ORDERED_ID_GENERATOR.nextUuid().toString(),
+                username,
+                "password",
+                emailAddress,
+                phoneNumber,
+                TwoFactorAuthenticationType.SMS
+        );
+    }
+
+}
@@ -0,0 +1,142 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cold start of the {@link UserFileRepositoryImpl}: loading a snapshot of {@code userCount} users with
+ * PBKDF2-sized password hashes and replaying a log tail of {@value #LOG_TAIL_SIZE} users written after it. Every
+ * iteration starts from a fresh copy of the same files.
+ *
+ * <p>Lives next to the package-private engine:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.factory.repository.impl.UserFileRepositoryStartupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class UserFileRepositoryStartupBenchmark {
+
+    private static final int LOG_TAIL_SIZE = 100_000;
+    private static final String PASSWORD_HASH = "pbkdf2-sha256$600000$c2FsdHNhbHRzYWx0c2FsdA$"
+            + "aGFzaGhhc2hoYXNoaGFzaGhhc2hoYXNoaGFzaGhhc2g";
+
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator = new TimeOrderedIdGenerator();
+
+    @Param({"5000000"})
+    private int userCount;
+
+    private Path pristineDirectory;
+    private Path directory;
+    private UserFileRepositoryImpl userFileRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pristineDirectory = Files.createTempDirectory("users-pristine");
+        directory = Files.createTempDirectory("users");
+
+        UserTable userTable = new UserTable(userCount);
+        for (int index = 0; index < userCount; index++) {
+            UserEntity userEntity = this.user(index);
+            userTable.save(userEntity, UserRecord.encode(userEntity));
+        }
+        UserSnapshot.write(pristineDirectory, 1, userTable);
+
+        try (UserWriteAheadLog writeAheadLog = new UserWriteAheadLog(pristineDirectory, 1)) {
+            long position = 0;
+            for (int index = userCount; index < userCount + LOG_TAIL_SIZE; index++) {
+                position = writeAheadLog.append(UserRecord.encode(this.user(index)));
+            }
+            writeAheadLog.awaitDurable(position);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void copyFiles() throws IOException {
+        deleteFiles(directory);
+        try (Stream<Path> paths = Files.list(pristineDirectory)) {
+            for (Path path : paths.toList()) {
+                Files.copy(path, directory.resolve(path.getFileName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public UserFileRepositoryImpl open() {
+        userFileRepository = new UserFileRepositoryImpl(directory, Duration.ofHours(1));
+        return userFileRepository;
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws InterruptedException {
+        userFileRepository.destroy();
+        userFileRepository = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteFiles(directory);
+        deleteFiles(pristineDirectory);
+        Files.delete(directory);
+        Files.delete(pristineDirectory);
+    }
+
+    private UserEntity user(int index) {
+        return new UserEntity(
+                timeOrderedIdGenerator.nextUuid().toString(),
+                "user-" + index,
+                PASSWORD_HASH,
+                "user-" + index + "@agitrubard.dev",
+                String.valueOf(6_000_000_000L + index),
+                TwoFactorAuthenticationType.values()[index % TwoFactorAuthenticationType.values().length]
+        );
+    }
+
+    private static void deleteFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UserFileRepositoryStartupBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,44 @@
+package dev.agitrubard.factory.repository.impl;
+
+import dev.agitrubard.common.id.TimeOrderedIdGenerator;
+import dev.agitrubard.factory.model.entity.UserEntity;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class UserRepositoryImplTest {
+
+    private static final TimeOrderedIdGenerator TIME_ORDERED_ID_GENERATOR = new TimeOrderedIdGenerator();
+
+    @Test
+    void givenSavedUser_whenUpdatedWithNewInstance_thenEveryLookupReturnsTheNewInstance() {
+        // Given
+        UserRepositoryImpl userRepository = new UserRepositoryImpl();
+        String id = TIME_ORDERED_ID_GENERATOR.nextUuid().toString();
+        userRepository.save(this.user(id, "agitrubard@software.eng", "5551234567", "password"));
+
+        // Then
+        UserEntity updatedUserEntity = this.user(id, "AGITRUBARD@software.eng", "5551234567", "rehashed");
+        userRepository.update(updatedUserEntity);
+
+        // Verify
+        Assertions.assertSame(updatedUserEntity, userRepository.findByUsername("agitrubard").orElseThrow());
+        Assertions.assertSame(
+                updatedUserEntity, userRepository.findByEmailAddress("agitrubard@software.eng").orElseThrow()
+        );
+        Assertions.assertSame(updatedUserEntity, userRepository.findByPhoneNumber("5551234567").orElseThrow());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> userRepository.update(
+                this.user(id, "other@software.eng", "5551234567", "rehashed")
+        ));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> userRepository.update(
+                this.user(id, "agitrubard@software.eng", "5557654321", "rehashed")
+        ));
+        Assertions.assertSame(updatedUserEntity, userRepository.findByPhoneNumber("5551234567").orElseThrow());
+    }
+
+    private UserEntity user(String id, String emailAddress, String phoneNumber, String password) {
+        return new UserEntity(id, "agitrubard", password, emailAddress, phoneNumber, TwoFactorAuthenticationType.SMS);
+    }
+
+}
@@ -0,0 +1,69 @@
+package dev.agitrubard.factory.service.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one PBKDF2-HMAC-SHA256 derivation, the CPU time a login costs, for several values of
+ * {@code password.hash.iterations}.
+ *
+ * <p>A processor computes {@code 1000 / score} hashes per second, so a budget of {@code Q} logins per second needs
+ * {@code Q * score / 1000} processors for hashing alone, the size of the {@code passwordHashExecutor}. Pick the
+ * highest cost that fits the budget, then confirm it end to end with the load-test harness against the login
+ * endpoint.</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.factory.service.impl.PasswordHashBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    @Param({"100000", "310000", "600000"})
+    private int iterations;
+
+    private byte[] salt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+    }
+
+    @Benchmark
+    public byte[] pbkdf2() throws GeneralSecurityException {
+        return PasswordHashServiceImpl.pbkdf2("correct horse battery staple", salt, iterations);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PasswordHashBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,93 @@
+package dev.agitrubard.factory.service.impl;
+
+import dev.agitrubard.common.latency.SimulatedLatency;
+import dev.agitrubard.factory.model.enums.TwoFactorAuthenticationType;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationService;
+import dev.agitrubard.factory.service.TwoFactorAuthenticationServiceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving the {@link TwoFactorAuthenticationService} of a login: allocating a new provider behind
+ * {@code Optional.ofNullable(...)} as the factory did before, against the {@code EnumMap} registry of
+ * {@link TwoFactorAuthenticationServiceFactoryImpl}. A {@code null} type resolves to the default provider.
+ *
+ * <p>Lives next to the package-private providers. Run with {@code -prof gc} to compare the allocation rate per
+ * operation:</p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.agitrubard.factory.service.impl.TwoFactorAuthenticationServiceFactoryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TwoFactorAuthenticationServiceFactoryBenchmark {
+
+    @Param({"PASSKEY", "SMS", "EMAIL", "NONE"})
+    private String type;
+
+    private TwoFactorAuthenticationType twoFactorAuthenticationType;
+    private SimulatedLatency simulatedLatency;
+    private TwoFactorAuthenticationServiceFactory twoFactorAuthenticationServiceFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        twoFactorAuthenticationType = "NONE".equals(type) ? null : TwoFactorAuthenticationType.valueOf(type);
+        simulatedLatency = new SimulatedLatency(Duration.ZERO);
+        twoFactorAuthenticationServiceFactory = new TwoFactorAuthenticationServiceFactoryImpl(List.of(
+                new PassKeyAuthenticationServiceImpl(simulatedLatency),
+                new SmsAuthenticationServiceImpl(simulatedLatency),
+                new EmailAuthenticationServiceImpl(simulatedLatency)
+        ));
+    }
+
+    @Benchmark
+    public TwoFactorAuthenticationService allocatingFactory() {
+
+        TwoFactorAuthenticationType authenticationType = Optional.ofNullable(twoFactorAuthenticationType)
+                .orElse(TwoFactorAuthenticationType.EMAIL);
+
+        return switch (authenticationType) {
+            case PASSKEY -> new PassKeyAuthenticationServiceImpl(simulatedLatency);
+            case SMS -> new SmsAuthenticationServiceImpl(simulatedLatency);
+            case EMAIL -> new EmailAuthenticationServiceImpl(simulatedLatency);
+        };
+    }
+
+    @Benchmark
+    public TwoFactorAuthenticationService enumMapRegistry() {
+        return twoFactorAuthenticationServiceFactory.create(twoFactorAuthenticationType);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TwoFactorAuthenticationServiceFactoryBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,21 @@
+package dev.agitrubard.strategy.config;
+
+import dev.agitrubard.strategy.model.enums.NotificationType;
+import dev.agitrubard.common.registry.StrategyRegistry;
+import dev.agitrubard.strategy.service.NotificationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+class NotificationServiceRegistryConfiguration {
+
+    @Bean
+    StrategyRegistry<NotificationType, NotificationService> notificationServiceRegistry(
+            List<NotificationService> notificationServices) {
+
+        return StrategyRegistry.of(NotificationType.class, notificationServices, NotificationService::getType);
+    }
+
+}
@@ -2,6 +2,9 @@ package dev.agitrubard.strategy.controller;
 
 import dev.agitrubard.strategy.model.enums.NotificationType;
 import dev.agitrubard.strategy.model.request.NotificationRequest;
+import dev.agitrubard.strategy.model.response.NotificationBulkResponse;
+import dev.agitrubard.common.registry.StrategyRegistry;
+import dev.agitrubard.strategy.service.NotificationBulkService;
 import dev.agitrubard.strategy.service.NotificationService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -14,23 +17,28 @@ import java.util.List;
 @RequestMapping("/api/v1/notifications")
 class NotificationController {
 
-    private final List<NotificationService> notificationServices;
+    private final StrategyRegistry<NotificationType, NotificationService> notificationServiceRegistry;
+    private final NotificationBulkService notificationBulkService;
 
-    public NotificationController(List<NotificationService> notificationServices) {
-        this.notificationServices = notificationServices;
+    public NotificationController(StrategyRegistry<NotificationType, NotificationService> notificationServiceRegistry,
+                                  NotificationBulkService notificationBulkService) {
+
+        this.notificationServiceRegistry = notificationServiceRegistry;
+        this.notificationBulkService = notificationBulkService;
     }
 
     @PostMapping("/send")
     public String sendNotification(@RequestBody NotificationRequest notificationRequest) {
-        NotificationService notificationService = this.findNotificationService(notificationRequest.type());
+        NotificationService notificationService = notificationServiceRegistry.get(notificationRequest.type());
         return notificationService.send(notificationRequest);
     }
 
-    private NotificationService findNotificationService(NotificationType type) {
-        return notificationServices.stream()
-                .filter(notificationService -> notificationService.getType().equals(type))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Notification type not implemented"));
+    /**
+     * Answers once every notification is sent or failed, with the counts per type.
+     */
+    @PostMapping("/send/bulk")
+    public NotificationBulkResponse sendNotifications(@RequestBody List<NotificationRequest> notificationRequests) {
+        return notificationBulkService.sendAll(notificationRequests);
     }
 
 }
@@ -0,0 +1,14 @@
+package dev.agitrubard.strategy.model.response;
+
+import dev.agitrubard.strategy.model.enums.NotificationType;
+
+import java.util.Map;
+
+/**
+ * Aggregated delivery report of a bulk send, in total and per notification type.
+ */
+public record NotificationBulkResponse(int sentCount,
+                                       int failedCount,
+                                       long durationMillis,
+                                       Map<NotificationType, NotificationChannelResponse> channels) {
+}
@@ -0,0 +1,7 @@
+package dev.agitrubard.strategy.model.response;
+
+/**
+ * {@code durationMillis} runs from the start of the bulk send until the last notification of the type is done.
+ */
+public record NotificationChannelResponse(int sentCount, int failedCount, long durationMillis) {
+}
@@ -0,0 +1,12 @@
+package dev.agitrubard.strategy.service;
+
+import dev.agitrubard.strategy.model.request.NotificationRequest;
+import dev.agitrubard.strategy.model.response.NotificationBulkResponse;
+
+import java.util.List;
+
+public interface NotificationBulkService {
+
+    NotificationBulkResponse sendAll(List<NotificationRequest> notificationRequests);
+
+}
@@ -1,5 +1,6 @@
 package dev.agitrubard.strategy.service.impl;
 
+import dev.agitrubard.common.latency.SimulatedLatency;
 import dev.agitrubard.strategy.model.enums.NotificationType;
 import dev.agitrubard.strategy.model.request.NotificationRequest;
 import dev.agitrubard.strategy.service.NotificationService;
@@ -8,6 +9,12 @@ import org.springframework.stereotype.Service;
 @Service
 class EmailNotificationServiceImpl implements NotificationService {
 
+    private final SimulatedLatency simulatedLatency;
+
+    EmailNotificationServiceImpl(SimulatedLatency simulatedLatency) {
+        this.simulatedLatency = simulatedLatency;
+    }
+
     @Override
     public NotificationType getType() {
         return NotificationType.EMAIL;
@@ -15,6 +22,7 @@ class EmailNotificationServiceImpl implements NotificationService {
 
     @Override
     public String send(NotificationRequest notificationRequest) {
+        simulatedLatency.await();
         return "Email notification sent to " + notificationRequest.to();
     }
 
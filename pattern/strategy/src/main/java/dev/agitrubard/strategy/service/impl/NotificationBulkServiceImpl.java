@@ -0,0 +1,129 @@
+package dev.agitrubard.strategy.service.impl;
+
+import dev.agitrubard.strategy.model.enums.NotificationType;
+import dev.agitrubard.strategy.model.request.NotificationRequest;
+import dev.agitrubard.strategy.model.response.NotificationBulkResponse;
+import dev.agitrubard.strategy.model.response.NotificationChannelResponse;
+import dev.agitrubard.common.registry.StrategyRegistry;
+import dev.agitrubard.strategy.service.NotificationBulkService;
+import dev.agitrubard.strategy.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends each notification on its own virtual thread. Each type is dispatched by its own thread, which takes a permit
+ * of the type's {@link Semaphore}, shared by all bulk sends, so a slow provider only delays its own type.
+ */
+@Service
+class NotificationBulkServiceImpl implements NotificationBulkService {
+
+    private final StrategyRegistry<NotificationType, NotificationService> notificationServiceRegistry;
+    private final Map<NotificationType, Semaphore> permitsByType = new EnumMap<>(NotificationType.class);
+
+    NotificationBulkServiceImpl(StrategyRegistry<NotificationType, NotificationService> notificationServiceRegistry,
+                                Environment environment,
+                                @Value("${notification.bulk.max-concurrency.default:32}") int defaultMaxConcurrency) {
+
+        this.notificationServiceRegistry = notificationServiceRegistry;
+
+        for (NotificationType type : NotificationType.values()) {
+            String property = "notification.bulk.max-concurrency." + type.name().toLowerCase(Locale.ROOT);
+            int maxConcurrency = environment.getProperty(property, Integer.class, defaultMaxConcurrency);
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException(property + " must be at least 1");
+            }
+            permitsByType.put(type, new Semaphore(maxConcurrency));
+        }
+    }
+
+    @Override
+    public NotificationBulkResponse sendAll(List<NotificationRequest> notificationRequests) {
+
+        Map<NotificationType, List<NotificationRequest>> partitions = this.partition(notificationRequests);
+
+        long startedAt = System.nanoTime();
+        Map<NotificationType, Future<NotificationChannelResponse>> dispatches = new EnumMap<>(NotificationType.class);
+        try (ExecutorService executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("notification-bulk-", 0).factory())) {
+
+            partitions.forEach((type, partition) -> dispatches.put(
+                    type,
+                    executorService.submit(() -> this.dispatch(executorService, type, partition, startedAt))
+            ));
+
+            Map<NotificationType, NotificationChannelResponse> channels = new EnumMap<>(NotificationType.class);
+            for (Map.Entry<NotificationType, Future<NotificationChannelResponse>> dispatch : dispatches.entrySet()) {
+                channels.put(dispatch.getKey(), dispatch.getValue().get());
+            }
+
+            int sentCount = channels.values().stream().mapToInt(NotificationChannelResponse::sentCount).sum();
+            int failedCount = channels.values().stream().mapToInt(NotificationChannelResponse::failedCount).sum();
+            return new NotificationBulkResponse(sentCount, failedCount, millisSince(startedAt), channels);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending notifications", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Notifications could not be dispatched", exception.getCause());
+        }
+    }
+
+    private Map<NotificationType, List<NotificationRequest>> partition(List<NotificationRequest> notificationRequests) {
+
+        Map<NotificationType, List<NotificationRequest>> partitions = new EnumMap<>(NotificationType.class);
+        for (NotificationRequest notificationRequest : notificationRequests) {
+            if (notificationRequest == null || notificationRequest.type() == null) {
+                throw new IllegalArgumentException("Notification type is required!");
+            }
+            partitions.computeIfAbsent(notificationRequest.type(), type -> new ArrayList<>()).add(notificationRequest);
+        }
+        return partitions;
+    }
+
+    private NotificationChannelResponse dispatch(ExecutorService executorService,
+                                                 NotificationType type,
+                                                 List<NotificationRequest> notificationRequests,
+                                                 long startedAt) throws InterruptedException {
+
+        NotificationService notificationService = notificationServiceRegistry.get(type);
+        Semaphore permits = permitsByType.get(type);
+        AtomicInteger sentCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        CountDownLatch remaining = new CountDownLatch(notificationRequests.size());
+        for (NotificationRequest notificationRequest : notificationRequests) {
+            permits.acquire();
+            executorService.execute(() -> {
+                try {
+                    notificationService.send(notificationRequest);
+                    sentCount.incrementAndGet();
+                } catch (RuntimeException exception) {
+                    failedCount.incrementAndGet();
+                } finally {
+                    permits.release();
+                    remaining.countDown();
+                }
+            });
+        }
+
+        remaining.await();
+        return new NotificationChannelResponse(sentCount.get(), failedCount.get(), millisSince(startedAt));
+    }
+
+    private static long millisSince(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+}
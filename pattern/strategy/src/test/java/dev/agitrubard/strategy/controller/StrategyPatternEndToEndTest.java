@@ -15,6 +15,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ExtendWith(MockitoExtension.class)
@@ -86,4 +88,32 @@ class StrategyPatternEndToEndTest {
                         .value("Sms notification sent to agitrubard@software.eng"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenNotificationRequestsOfEveryType_whenNotificationsSentInBulk_thenReturnReportPerType() throws Exception {
+        // Given
+        List<NotificationRequest> notificationRequests = List.of(
+                new NotificationRequest("agitrubard@software.eng", NotificationType.EMAIL),
+                new NotificationRequest("agit@software.eng", NotificationType.EMAIL),
+                new NotificationRequest("rubard@software.eng", NotificationType.EMAIL),
+                new NotificationRequest("device-1", NotificationType.PUSH),
+                new NotificationRequest("device-2", NotificationType.PUSH),
+                new NotificationRequest("5551234567", NotificationType.SMS)
+        );
+
+        // Then
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+                .post("/api/v1/notifications/send/bulk")
+                .content(notificationRequests.toString())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockHttpServletRequestBuilder)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.sentCount").value(6))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failedCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.channels.EMAIL.sentCount").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.channels.PUSH.sentCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.channels.SMS.sentCount").value(1));
+    }
+
+}